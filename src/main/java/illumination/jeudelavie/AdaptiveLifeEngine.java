@@ -0,0 +1,219 @@
+package illumination.jeudelavie;
+
+/**
+ * Moteur qui choisit automatiquement sa représentation selon la densité de la grille :
+ * {@link SparseLifeEngine} lorsque peu de cellules sont vivantes (vaisseaux dans le vide,
+ * quelques canons), {@link BlockTransitionEngine} pour les grilles denses.
+ * Deux seuils distincts évitent de basculer à chaque génération autour d'une densité limite.
+ * La représentation est revue à chaque génération, ainsi qu'après un remplissage de la grille
+ * ({@link #randomize(double)}, {@link #writeRegion(int, int, int, int, boolean[])}).
+ */
+public class AdaptiveLifeEngine implements LifeEngine {
+    /** Densité en dessous de laquelle la grille passe en représentation creuse. */
+    static final double SPARSE_DENSITY = 0.01;
+
+    /** Densité au-dessus de laquelle la grille repasse en représentation dense. */
+    static final double DENSE_DENSITY = 0.03;
+
+    private final BlockTransitionEngine dense;
+    private final SparseLifeEngine sparse;
+    private LifeEngine current;
+    private CellRegion changedRegion;
+
+    /**
+     * Constructeur utilisé par ServiceLoader : grille minimale, à redimensionner avec {@link #resize(int, int)}.
+     */
+    public AdaptiveLifeEngine() {
+        this(1, 1);
+    }
+
+    /**
+     * Constructeur qui initialise une grille vide avec les dimensions spécifiées.
+     *
+     * @param width  Largeur de la grille
+     * @param height Hauteur de la grille
+     */
+    public AdaptiveLifeEngine(int width, int height) {
+        this.dense = new BlockTransitionEngine(width, height);
+        this.sparse = new SparseLifeEngine(width, height);
+        this.current = sparse; // Une grille vide est creuse
+    }
+
+    @Override
+    public String getName() {
+        return "Automatique";
+    }
+
+    /**
+     * Indique si la grille est actuellement en représentation creuse.
+     *
+     * @return true si le moteur creux est utilisé
+     */
+    public boolean isSparse() {
+        return current == sparse;
+    }
+
+    @Override
+    public void clear() {
+        current.clear();
+    }
+
+    /**
+     * Remplit la grille avec des cellules aléatoires, dans la représentation adaptée à la densité demandée.
+     *
+     * @param density Densité des cellules vivantes (0.0 à 1.0)
+     */
+    @Override
+    public void randomize(double density) {
+        useEngine(preferredEngine(density));
+        current.randomize(density);
+    }
+
+    /**
+     * Fait évoluer la grille d'une génération, après avoir changé de représentation
+     * si la densité a franchi l'un des seuils (y compris à cause de modifications manuelles).
+     */
+    @Override
+    public void nextGeneration() {
+        selectEngine();
+        current.nextGeneration();
+        changedRegion = current.getChangedRegion();
+    }
+
+    /**
+     * Change de représentation si la densité de la grille le justifie.
+     */
+    private void selectEngine() {
+        double density = (double) current.getPopulation() / ((long) getWidth() * getHeight());
+        LifeEngine preferred = preferredEngine(density);
+
+        if (preferred == sparse && current == dense) {
+            // Dense vers creux : parcourir la grille une seule fois
+            int width = dense.getWidth();
+            int height = dense.getHeight();
+            boolean[] cells = new boolean[width * height];
+            dense.readRegion(0, 0, width, height, cells);
+
+            sparse.resize(width, height);
+            sparse.clear();
+            for (int i = 0; i < cells.length; i++) {
+                if (cells[i]) {
+                    sparse.setCell(i / height, i % height, true);
+                }
+            }
+            current = sparse;
+        } else if (preferred == dense && current == sparse) {
+            // Creux vers dense : ne copier que les cellules vivantes
+            dense.resize(sparse.getWidth(), sparse.getHeight());
+            dense.clear();
+            for (long key : sparse.getLiveCells()) {
+                dense.setCell(SparseLifeEngine.unpackX(key), SparseLifeEngine.unpackY(key), true);
+            }
+            current = dense;
+        }
+    }
+
+    /**
+     * Indique la représentation adaptée à une densité ; entre les deux seuils, la représentation
+     * courante est conservée.
+     */
+    private LifeEngine preferredEngine(double density) {
+        if (density < SPARSE_DENSITY) {
+            return sparse;
+        }
+        if (density > DENSE_DENSITY) {
+            return dense;
+        }
+        return current;
+    }
+
+    /**
+     * Change de représentation sans copier les cellules, avant de remplacer toute la grille.
+     */
+    private void useEngine(LifeEngine engine) {
+        if (engine != current) {
+            engine.resize(current.getWidth(), current.getHeight());
+            current = engine;
+        }
+    }
+
+    @Override
+    public void toggleCell(int x, int y) {
+        current.toggleCell(x, y);
+    }
+
+    @Override
+    public void setCell(int x, int y, boolean alive) {
+        current.setCell(x, y, alive);
+    }
+
+    @Override
+    public boolean isAlive(int x, int y) {
+        return current.isAlive(x, y);
+    }
+
+    @Override
+    public void readRegion(int x, int y, int width, int height, boolean[] destination) {
+        current.readRegion(x, y, width, height, destination);
+    }
+
+    /**
+     * Remplace l'état d'une zone de la grille. Lorsque toute la grille est remplacée (image clé
+     * reçue d'un serveur par exemple), la représentation est choisie avant la copie d'après la
+     * densité des cellules copiées ; sinon elle est revue après la copie.
+     */
+    @Override
+    public void writeRegion(int x, int y, int width, int height, boolean[] source) {
+        if (x != 0 || y != 0 || width != getWidth() || height != getHeight()) {
+            current.writeRegion(x, y, width, height, source);
+            selectEngine();
+            return;
+        }
+
+        long population = 0;
+        for (int i = 0; i < width * height; i++) {
+            if (source[i]) {
+                population++;
+            }
+        }
+        useEngine(preferredEngine((double) population / ((long) width * height)));
+
+        // Ne copier que les cellules vivantes
+        current.clear();
+        for (int i = 0; i < width * height; i++) {
+            if (source[i]) {
+                current.setCell(i / height, i % height, true);
+            }
+        }
+    }
+
+    @Override
+    public int getWidth() {
+        return current.getWidth();
+    }
+
+    @Override
+    public int getHeight() {
+        return current.getHeight();
+    }
+
+    @Override
+    public void resize(int newWidth, int newHeight) {
+        // La représentation inactive est redimensionnée au moment du changement
+        boolean sizeChanged = newWidth != getWidth() || newHeight != getHeight();
+        current.resize(newWidth, newHeight);
+        if (sizeChanged) {
+            changedRegion = null;
+        }
+    }
+
+    @Override
+    public long getPopulation() {
+        return current.getPopulation();
+    }
+
+    @Override
+    public CellRegion getChangedRegion() {
+        return changedRegion;
+    }
+}
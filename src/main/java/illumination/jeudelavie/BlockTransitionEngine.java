@@ -0,0 +1,315 @@
+package illumination.jeudelavie;
+
+/**
+ * Moteur du Jeu de la Vie par blocs de transition mémorisés.
+ * La grille est parcourue par blocs de 2x2 cellules : l'état suivant de chaque bloc est lu
+ * dans une table précalculée de 65536 entrées, indexée par les 16 cellules du voisinage 4x4
+ * qui l'entoure. Ce moteur est surtout intéressant sur les grilles denses et chaotiques.
+ */
+public class BlockTransitionEngine implements LifeEngine {
+    /**
+     * Table de transition : pour chaque voisinage 4x4 (bit {@code dy * 4 + dx}), les 4 bits de
+     * poids faible donnent l'état suivant du bloc central 2x2
+     * (bit 0 : (x, y), bit 1 : (x+1, y), bit 2 : (x, y+1), bit 3 : (x+1, y+1)).
+     */
+    private static final byte[] TRANSITIONS = buildTransitions();
+
+    /** Nombre de cellules vivantes pour chaque valeur d'un bloc 2x2. */
+    private static final int[] BLOCK_POPULATION = {0, 1, 1, 2, 1, 2, 2, 3, 1, 2, 2, 3, 2, 3, 3, 4};
+
+    private boolean[][] grid;
+    private int width;
+    private int height;
+    private long population;
+    private CellRegion changedRegion;
+
+    /**
+     * Constructeur utilisé par ServiceLoader : grille minimale, à redimensionner avec {@link #resize(int, int)}.
+     */
+    public BlockTransitionEngine() {
+        this(1, 1);
+    }
+
+    /**
+     * Constructeur qui initialise une grille vide avec les dimensions spécifiées.
+     *
+     * @param width  Largeur de la grille
+     * @param height Hauteur de la grille
+     */
+    public BlockTransitionEngine(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.grid = new boolean[width][height];
+    }
+
+    /**
+     * Précalcule la table de transition des voisinages 4x4 vers les blocs 2x2.
+     *
+     * @return Table de 65536 entrées
+     */
+    private static byte[] buildTransitions() {
+        byte[] table = new byte[1 << 16];
+
+        for (int index = 0; index < table.length; index++) {
+            int result = 0;
+            int bit = 0;
+
+            // Cellules centrales du voisinage, dans l'ordre des bits de sortie
+            for (int oy = 1; oy <= 2; oy++) {
+                for (int ox = 1; ox <= 2; ox++) {
+                    int neighbors = 0;
+                    for (int dy = -1; dy <= 1; dy++) {
+                        for (int dx = -1; dx <= 1; dx++) {
+                            if (dx == 0 && dy == 0) continue;
+                            neighbors += (index >>> ((oy + dy) * 4 + ox + dx)) & 1;
+                        }
+                    }
+
+                    boolean alive = ((index >>> (oy * 4 + ox)) & 1) != 0;
+                    if (neighbors == 3 || (alive && neighbors == 2)) {
+                        result |= 1 << bit;
+                    }
+                    bit++;
+                }
+            }
+
+            table[index] = (byte) result;
+        }
+
+        return table;
+    }
+
+    @Override
+    public String getName() {
+        return "Blocs 2x2";
+    }
+
+    /**
+     * Efface la grille (toutes les cellules mortes).
+     */
+    @Override
+    public void clear() {
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                grid[x][y] = false;
+            }
+        }
+        population = 0;
+    }
+
+    /**
+     * Remplit la grille avec des cellules aléatoires.
+     *
+     * @param density Densité des cellules vivantes (0.0 à 1.0)
+     */
+    @Override
+    public void randomize(double density) {
+        population = 0;
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                grid[x][y] = Math.random() < density;
+                if (grid[x][y]) {
+                    population++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Fait évoluer la grille d'une génération selon les règles du Jeu de la Vie.
+     * Chaque bloc 2x2 est calculé en une seule lecture de la table de transition. En descendant
+     * le long d'une colonne de blocs, les deux lignes communes au voisinage précédent sont
+     * réutilisées par simple décalage, seules deux nouvelles lignes sont lues.
+     */
+    @Override
+    public void nextGeneration() {
+        boolean[][] newGrid = new boolean[width][height];
+        long newPopulation = 0;
+
+        // Limites de la zone modifiée par cette génération
+        int minX = width;
+        int minY = height;
+        int maxX = -1;
+        int maxY = -1;
+
+        // Index des colonnes x - 1 à x + 2 avec gestion des bords (toroïdal)
+        int[] wrapX = new int[width + 3];
+        for (int i = 0; i < wrapX.length; i++) {
+            wrapX[i] = (i - 1 + width) % width;
+        }
+        int[] wrapY = new int[height + 3];
+        for (int i = 0; i < wrapY.length; i++) {
+            wrapY[i] = (i - 1 + height) % height;
+        }
+
+        for (int x0 = 0; x0 < width; x0 += 2) {
+            boolean[] c0 = grid[wrapX[x0]];
+            boolean[] c1 = grid[wrapX[x0 + 1]];
+            boolean[] c2 = grid[wrapX[x0 + 2]];
+            boolean[] c3 = grid[wrapX[x0 + 3]];
+            boolean hasRightColumn = x0 + 1 < width;
+            int columnMask = hasRightColumn ? 0b1111 : 0b0101;
+
+            // Lignes y - 1 et y du premier bloc de la colonne
+            int index = rowBits(c0, c1, c2, c3, wrapY[0])
+                    | rowBits(c0, c1, c2, c3, wrapY[1]) << 4;
+
+            for (int y0 = 0; y0 < height; y0 += 2) {
+                // Ajouter les lignes y + 1 et y + 2 du bloc courant
+                index |= rowBits(c0, c1, c2, c3, wrapY[y0 + 2]) << 8
+                        | rowBits(c0, c1, c2, c3, wrapY[y0 + 3]) << 12;
+
+                // Ignorer les cellules du bloc hors de la grille (dimensions impaires)
+                int mask = y0 + 1 < height ? columnMask : columnMask & 0b0011;
+                int next = TRANSITIONS[index] & mask;
+                int previous = ((index >>> 5) & 0b0011 | ((index >>> 9) & 0b0011) << 2) & mask;
+                newPopulation += BLOCK_POPULATION[next];
+
+                int changed = next ^ previous;
+                if (changed != 0) {
+                    minX = Math.min(minX, (changed & 0b0101) != 0 ? x0 : x0 + 1);
+                    maxX = Math.max(maxX, (changed & 0b1010) != 0 ? x0 + 1 : x0);
+                    minY = Math.min(minY, (changed & 0b0011) != 0 ? y0 : y0 + 1);
+                    maxY = Math.max(maxY, (changed & 0b1100) != 0 ? y0 + 1 : y0);
+                }
+
+                newGrid[x0][y0] = (next & 1) != 0;
+                if (hasRightColumn) {
+                    newGrid[x0 + 1][y0] = (next & 2) != 0;
+                }
+                if (y0 + 1 < height) {
+                    newGrid[x0][y0 + 1] = (next & 4) != 0;
+                    if (hasRightColumn) {
+                        newGrid[x0 + 1][y0 + 1] = (next & 8) != 0;
+                    }
+                }
+
+                // Les deux dernières lignes deviennent les deux premières du bloc suivant
+                index >>>= 8;
+            }
+        }
+
+        // Mettre à jour la grille
+        grid = newGrid;
+        population = newPopulation;
+        changedRegion = CellRegion.fromBounds(minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Lit 4 cellules consécutives d'une ligne sous forme de bits.
+     *
+     * @return Bits de la ligne (bit 0 : colonne x - 1, bit 3 : colonne x + 2)
+     */
+    private static int rowBits(boolean[] c0, boolean[] c1, boolean[] c2, boolean[] c3, int y) {
+        return (c0[y] ? 1 : 0) | (c1[y] ? 2 : 0) | (c2[y] ? 4 : 0) | (c3[y] ? 8 : 0);
+    }
+
+    /**
+     * Bascule l'état d'une cellule (vivante à morte ou morte à vivante).
+     *
+     * @param x Coordonnée X de la cellule
+     * @param y Coordonnée Y de la cellule
+     */
+    @Override
+    public void toggleCell(int x, int y) {
+        if (x >= 0 && x < width && y >= 0 && y < height) {
+            grid[x][y] = !grid[x][y];
+            population += grid[x][y] ? 1 : -1;
+        }
+    }
+
+    /**
+     * Définit l'état d'une cellule.
+     *
+     * @param x     Coordonnée X de la cellule
+     * @param y     Coordonnée Y de la cellule
+     * @param alive true pour vivante, false pour morte
+     */
+    @Override
+    public void setCell(int x, int y, boolean alive) {
+        if (x >= 0 && x < width && y >= 0 && y < height && grid[x][y] != alive) {
+            grid[x][y] = alive;
+            population += alive ? 1 : -1;
+        }
+    }
+
+    /**
+     * Vérifie si une cellule est vivante.
+     *
+     * @param x Coordonnée X de la cellule
+     * @param y Coordonnée Y de la cellule
+     * @return true si la cellule est vivante, false sinon
+     */
+    @Override
+    public boolean isAlive(int x, int y) {
+        if (x >= 0 && x < width && y >= 0 && y < height) {
+            return grid[x][y];
+        }
+        return false;
+    }
+
+    @Override
+    public void readRegion(int x, int y, int regionWidth, int regionHeight, boolean[] destination) {
+        // Copie directe des colonnes lorsque la zone est entièrement dans la grille
+        if (x >= 0 && y >= 0 && x + regionWidth <= width && y + regionHeight <= height) {
+            for (int i = 0; i < regionWidth; i++) {
+                System.arraycopy(grid[x + i], y, destination, i * regionHeight, regionHeight);
+            }
+        } else {
+            LifeEngine.super.readRegion(x, y, regionWidth, regionHeight, destination);
+        }
+    }
+
+    /**
+     * Obtient la largeur de la grille.
+     *
+     * @return Largeur de la grille
+     */
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Obtient la hauteur de la grille.
+     *
+     * @return Hauteur de la grille
+     */
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Redimensionne la grille tout en préservant les cellules existantes.
+     *
+     * @param newWidth  Nouvelle largeur
+     * @param newHeight Nouvelle hauteur
+     * @throws IllegalArgumentException si les dimensions sont négatives ou trop grandes
+     */
+    @Override
+    public void resize(int newWidth, int newHeight) {
+        LifeEngine.checkDimensions(newWidth, newHeight);
+
+        // Éviter le redimensionnement inutile
+        if (newWidth == width && newHeight == height) {
+            return;
+        }
+
+        this.grid = DenseGrid.resize(grid, newWidth, newHeight);
+        this.width = newWidth;
+        this.height = newHeight;
+        this.population = DenseGrid.population(grid);
+        this.changedRegion = null;
+    }
+
+    @Override
+    public long getPopulation() {
+        return population;
+    }
+
+    @Override
+    public CellRegion getChangedRegion() {
+        return changedRegion;
+    }
+}
@@ -0,0 +1,28 @@
+package illumination.jeudelavie;
+
+/**
+ * Zone rectangulaire de la grille.
+ *
+ * @param x      Coordonnée X du coin supérieur gauche
+ * @param y      Coordonnée Y du coin supérieur gauche
+ * @param width  Largeur de la zone
+ * @param height Hauteur de la zone
+ */
+public record CellRegion(int x, int y, int width, int height) {
+
+    /**
+     * Crée la zone délimitée par deux coins inclusifs.
+     *
+     * @param minX Coordonnée X minimale
+     * @param minY Coordonnée Y minimale
+     * @param maxX Coordonnée X maximale
+     * @param maxY Coordonnée Y maximale
+     * @return Zone correspondante, ou null si {@code minX > maxX} (zone vide)
+     */
+    public static CellRegion fromBounds(int minX, int minY, int maxX, int maxY) {
+        if (minX > maxX) {
+            return null;
+        }
+        return new CellRegion(minX, minY, maxX - minX + 1, maxY - minY + 1);
+    }
+}
@@ -0,0 +1,221 @@
+package illumination.jeudelavie;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Protocole de diffusion d'une simulation entre le serveur et les clients.
+ * Chaque message est composé d'un octet de type, de la longueur du contenu puis du contenu :
+ * <ul>
+ *     <li>Image clé : génération, largeur, hauteur, puis la grille complète en bits compressés.</li>
+ *     <li>Delta : génération, nombre de cellules modifiées, puis les écarts entre les index
+ *     (croissants) des cellules modifiées, codés en entiers de longueur variable.</li>
+ * </ul>
+ * La taille d'un delta dépend donc de l'activité de la grille et non de sa taille.
+ * L'index d'une cellule vaut {@code x * hauteur + y}.
+ */
+public final class DeltaProtocol {
+    /** Type de message : grille complète. */
+    public static final byte KEYFRAME = 1;
+    /** Type de message : cellules modifiées depuis la génération précédente. */
+    public static final byte DELTA = 2;
+
+    /** Taille maximale acceptée pour le contenu d'un message. */
+    private static final int MAX_PAYLOAD = 16 * 1024 * 1024;
+
+    private DeltaProtocol() {
+    }
+
+    /**
+     * Encode une image clé de la grille.
+     *
+     * @param generation Numéro de génération
+     * @param width      Largeur de la grille
+     * @param height     Hauteur de la grille
+     * @param cells      État des cellules, indexé par {@code x * height + y}
+     * @return Message prêt à être envoyé
+     */
+    public static byte[] encodeKeyframe(long generation, int width, int height, boolean[] cells) {
+        byte[] bits = new byte[(cells.length + 7) / 8];
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i]) {
+                bits[i >>> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        deflater.setInput(bits);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        while (!deflater.finished()) {
+            int length = deflater.deflate(buffer);
+            compressed.write(buffer, 0, length);
+        }
+        deflater.end();
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(compressed.size() + 20);
+        try (DataOutputStream out = new DataOutputStream(payload)) {
+            out.writeLong(generation);
+            out.writeInt(width);
+            out.writeInt(height);
+            compressed.writeTo(out);
+        } catch (IOException e) {
+            // Impossible avec un flux en mémoire
+            throw new IllegalStateException(e);
+        }
+        return frame(KEYFRAME, payload);
+    }
+
+    /**
+     * Encode un delta de génération.
+     *
+     * @param generation Numéro de génération
+     * @param changed    Index croissants des cellules ayant changé d'état
+     * @param count      Nombre d'index valides dans {@code changed}
+     * @return Message prêt à être envoyé
+     */
+    public static byte[] encodeDelta(long generation, int[] changed, int count) {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(12 + count * 2);
+        try (DataOutputStream out = new DataOutputStream(payload)) {
+            out.writeLong(generation);
+            out.writeInt(count);
+            int previous = 0;
+            for (int i = 0; i < count; i++) {
+                writeVarInt(out, changed[i] - previous);
+                previous = changed[i];
+            }
+        } catch (IOException e) {
+            // Impossible avec un flux en mémoire
+            throw new IllegalStateException(e);
+        }
+        return frame(DELTA, payload);
+    }
+
+    /**
+     * Lit et décode le message suivant du flux.
+     *
+     * @param in Flux d'entrée
+     * @return Message décodé
+     * @throws IOException si le flux est fermé ou si le message est invalide
+     */
+    public static SimulationFrame readFrame(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        int length = in.readInt();
+        if (length < 0 || length > MAX_PAYLOAD) {
+            throw new IOException("Taille de message invalide : " + length);
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(payload));
+        long generation = data.readLong();
+
+        switch (type) {
+            case KEYFRAME: {
+                int width = data.readInt();
+                int height = data.readInt();
+                if (width <= 0 || height <= 0
+                        || width > LifeEngine.MAX_DIMENSION || height > LifeEngine.MAX_DIMENSION) {
+                    throw new IOException("Dimensions de grille invalides : " + width + "x" + height);
+                }
+                boolean[] cells = new boolean[width * height];
+                byte[] bits = inflate(payload, 16, length - 16, (cells.length + 7) / 8);
+                for (int i = 0; i < cells.length; i++) {
+                    cells[i] = (bits[i >>> 3] & (1 << (i & 7))) != 0;
+                }
+                return SimulationFrame.keyframe(generation, width, height, cells);
+            }
+            case DELTA: {
+                int count = data.readInt();
+                if (count < 0 || count > length) {
+                    throw new IOException("Nombre de cellules invalide : " + count);
+                }
+                int[] changed = new int[count];
+                int index = 0;
+                for (int i = 0; i < count; i++) {
+                    index += readVarInt(data);
+                    changed[i] = index;
+                }
+                return SimulationFrame.delta(generation, changed);
+            }
+            default:
+                throw new IOException("Type de message inconnu : " + type);
+        }
+    }
+
+    /**
+     * Ajoute l'en-tête (type et longueur) au contenu d'un message.
+     */
+    private static byte[] frame(byte type, ByteArrayOutputStream payload) {
+        ByteArrayOutputStream message = new ByteArrayOutputStream(payload.size() + 5);
+        try (DataOutputStream out = new DataOutputStream(message)) {
+            out.writeByte(type);
+            out.writeInt(payload.size());
+            payload.writeTo(out);
+        } catch (IOException e) {
+            // Impossible avec un flux en mémoire
+            throw new IllegalStateException(e);
+        }
+        return message.toByteArray();
+    }
+
+    /**
+     * Décompresse la grille d'une image clé.
+     */
+    private static byte[] inflate(byte[] input, int offset, int length, int expected) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input, offset, length);
+            byte[] output = new byte[expected];
+            int total = 0;
+            while (total < expected && !inflater.finished()) {
+                int read = inflater.inflate(output, total, expected - total);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                total += read;
+            }
+            if (total != expected) {
+                throw new IOException("Image clé tronquée");
+            }
+            return output;
+        } catch (DataFormatException e) {
+            throw new IOException("Image clé corrompue", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Écrit un entier positif sur 1 à 5 octets (7 bits par octet).
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Lit un entier écrit par {@link #writeVarInt(DataOutputStream, int)}.
+     */
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Entier de longueur variable invalide");
+    }
+}
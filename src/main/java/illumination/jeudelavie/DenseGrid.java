@@ -0,0 +1,52 @@
+package illumination.jeudelavie;
+
+/**
+ * Opérations communes aux moteurs qui stockent la grille dans un tableau {@code boolean[x][y]}
+ * ({@link GameOfLife} et {@link BlockTransitionEngine}).
+ */
+final class DenseGrid {
+    private DenseGrid() {
+    }
+
+    /**
+     * Copie une grille dans une grille de nouvelles dimensions : les cellules communes sont
+     * conservées, les nouvelles cellules sont mortes.
+     *
+     * @param grid      Grille actuelle
+     * @param newWidth  Nouvelle largeur
+     * @param newHeight Nouvelle hauteur
+     * @return Nouvelle grille
+     * @throws RuntimeException si la mémoire est insuffisante, la grille actuelle restant alors inchangée
+     */
+    static boolean[][] resize(boolean[][] grid, int newWidth, int newHeight) {
+        try {
+            boolean[][] newGrid = new boolean[newWidth][newHeight];
+            int height = grid.length > 0 ? grid[0].length : 0;
+            for (int x = 0; x < Math.min(grid.length, newWidth); x++) {
+                System.arraycopy(grid[x], 0, newGrid[x], 0, Math.min(height, newHeight));
+            }
+            return newGrid;
+        } catch (OutOfMemoryError e) {
+            // En cas d'erreur de mémoire, conserver la grille actuelle et lancer une exception
+            throw new RuntimeException("Mémoire insuffisante pour redimensionner la grille", e);
+        }
+    }
+
+    /**
+     * Compte les cellules vivantes d'une grille.
+     *
+     * @param grid Grille
+     * @return Nombre de cellules vivantes
+     */
+    static long population(boolean[][] grid) {
+        long population = 0;
+        for (boolean[] column : grid) {
+            for (boolean alive : column) {
+                if (alive) {
+                    population++;
+                }
+            }
+        }
+        return population;
+    }
+}
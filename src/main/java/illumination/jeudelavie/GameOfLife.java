@@ -3,11 +3,21 @@ package illumination.jeudelavie;
 /**
  * Modèle pour le Jeu de la Vie de Conway.
  * Cette classe gère la logique du jeu, y compris l'état de la grille et les règles d'évolution.
+ * C'est l'implémentation de référence de {@link LifeEngine}.
  */
-public class GameOfLife {
+public class GameOfLife implements LifeEngine {
     private boolean[][] grid;
     private int width;
     private int height;
+    private long population;
+    private CellRegion changedRegion;
+
+    /**
+     * Constructeur utilisé par ServiceLoader : grille minimale, à redimensionner avec {@link #resize(int, int)}.
+     */
+    public GameOfLife() {
+        this(1, 1);
+    }
 
     /**
      * Constructeur qui initialise une grille vide avec les dimensions spécifiées.
@@ -22,15 +32,22 @@ public class GameOfLife {
         clear();
     }
 
+    @Override
+    public String getName() {
+        return "Référence";
+    }
+
     /**
      * Efface la grille (toutes les cellules mortes).
      */
+    @Override
     public void clear() {
         for (int x = 0; x < width; x++) {
             for (int y = 0; y < height; y++) {
                 grid[x][y] = false;
             }
         }
+        population = 0;
     }
 
     /**
@@ -38,10 +55,15 @@ public class GameOfLife {
      *
      * @param density Densité des cellules vivantes (0.0 à 1.0)
      */
+    @Override
     public void randomize(double density) {
+        population = 0;
         for (int x = 0; x < width; x++) {
             for (int y = 0; y < height; y++) {
                 grid[x][y] = Math.random() < density;
+                if (grid[x][y]) {
+                    population++;
+                }
             }
         }
     }
@@ -53,8 +75,16 @@ public class GameOfLife {
      * 2. Une cellule vivante avec 2 ou 3 voisines vivantes reste vivante.
      * 3. Dans tous les autres cas, une cellule meurt ou reste morte.
      */
+    @Override
     public void nextGeneration() {
         boolean[][] newGrid = new boolean[width][height];
+        long newPopulation = 0;
+
+        // Limites de la zone modifiée par cette génération
+        int minX = width;
+        int minY = height;
+        int maxX = -1;
+        int maxY = -1;
 
         for (int x = 0; x < width; x++) {
             for (int y = 0; y < height; y++) {
@@ -68,11 +98,23 @@ public class GameOfLife {
                     // Cellule morte
                     newGrid[x][y] = neighbors == 3;
                 }
+
+                if (newGrid[x][y]) {
+                    newPopulation++;
+                }
+                if (newGrid[x][y] != grid[x][y]) {
+                    minX = Math.min(minX, x);
+                    minY = Math.min(minY, y);
+                    maxX = Math.max(maxX, x);
+                    maxY = Math.max(maxY, y);
+                }
             }
         }
 
         // Mettre à jour la grille
         grid = newGrid;
+        population = newPopulation;
+        changedRegion = CellRegion.fromBounds(minX, minY, maxX, maxY);
     }
 
     /**
@@ -107,9 +149,11 @@ public class GameOfLife {
      * @param x Coordonnée X de la cellule
      * @param y Coordonnée Y de la cellule
      */
+    @Override
     public void toggleCell(int x, int y) {
         if (x >= 0 && x < width && y >= 0 && y < height) {
             grid[x][y] = !grid[x][y];
+            population += grid[x][y] ? 1 : -1;
         }
     }
 
@@ -120,9 +164,11 @@ public class GameOfLife {
      * @param y     Coordonnée Y de la cellule
      * @param alive true pour vivante, false pour morte
      */
+    @Override
     public void setCell(int x, int y, boolean alive) {
-        if (x >= 0 && x < width && y >= 0 && y < height) {
+        if (x >= 0 && x < width && y >= 0 && y < height && grid[x][y] != alive) {
             grid[x][y] = alive;
+            population += alive ? 1 : -1;
         }
     }
 
@@ -133,6 +179,7 @@ public class GameOfLife {
      * @param y Coordonnée Y de la cellule
      * @return true si la cellule est vivante, false sinon
      */
+    @Override
     public boolean isAlive(int x, int y) {
         if (x >= 0 && x < width && y >= 0 && y < height) {
             return grid[x][y];
@@ -140,11 +187,24 @@ public class GameOfLife {
         return false;
     }
 
+    @Override
+    public void readRegion(int x, int y, int regionWidth, int regionHeight, boolean[] destination) {
+        // Copie directe des colonnes lorsque la zone est entièrement dans la grille
+        if (x >= 0 && y >= 0 && x + regionWidth <= width && y + regionHeight <= height) {
+            for (int i = 0; i < regionWidth; i++) {
+                System.arraycopy(grid[x + i], y, destination, i * regionHeight, regionHeight);
+            }
+        } else {
+            LifeEngine.super.readRegion(x, y, regionWidth, regionHeight, destination);
+        }
+    }
+
     /**
      * Obtient la largeur de la grille.
      *
      * @return Largeur de la grille
      */
+    @Override
     public int getWidth() {
         return width;
     }
@@ -154,6 +214,7 @@ public class GameOfLife {
      *
      * @return Hauteur de la grille
      */
+    @Override
     public int getHeight() {
         return height;
     }
@@ -165,40 +226,29 @@ public class GameOfLife {
      * @param newHeight Nouvelle hauteur
      * @throws IllegalArgumentException si les dimensions sont négatives ou trop grandes
      */
+    @Override
     public void resize(int newWidth, int newHeight) {
-        // Validation des dimensions
-        if (newWidth <= 0 || newHeight <= 0) {
-            throw new IllegalArgumentException("Les dimensions de la grille doivent être positives");
-        }
-
-        // Limites maximales pour éviter les problèmes de mémoire
-        final int MAX_DIMENSION = 2000;
-        if (newWidth > MAX_DIMENSION || newHeight > MAX_DIMENSION) {
-            throw new IllegalArgumentException("Les dimensions de la grille sont trop grandes");
-        }
+        LifeEngine.checkDimensions(newWidth, newHeight);
 
         // Éviter le redimensionnement inutile
         if (newWidth == width && newHeight == height) {
             return;
         }
 
-        try {
-            // Créer une nouvelle grille avec les nouvelles dimensions
-            boolean[][] newGrid = new boolean[newWidth][newHeight];
+        this.grid = DenseGrid.resize(grid, newWidth, newHeight);
+        this.width = newWidth;
+        this.height = newHeight;
+        this.population = DenseGrid.population(grid);
+        this.changedRegion = null;
+    }
 
-            // Copier les cellules existantes dans la nouvelle grille
-            for (int x = 0; x < Math.min(width, newWidth); x++) {
-                for (int y = 0; y < Math.min(height, newHeight); y++) {
-                    newGrid[x][y] = grid[x][y];
-                }
-            }
+    @Override
+    public long getPopulation() {
+        return population;
+    }
 
-            this.width = newWidth;
-            this.height = newHeight;
-            this.grid = newGrid;
-        } catch (OutOfMemoryError e) {
-            // En cas d'erreur de mémoire, conserver la grille actuelle et lancer une exception
-            throw new RuntimeException("Mémoire insuffisante pour redimensionner la grille", e);
-        }
+    @Override
+    public CellRegion getChangedRegion() {
+        return changedRegion;
     }
 }
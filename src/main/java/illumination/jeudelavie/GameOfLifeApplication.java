@@ -23,6 +23,18 @@ public class GameOfLifeApplication extends Application {
         stage.setScene(scene);
         stage.setMinWidth(800);
         stage.setMinHeight(600);
+
+        // Mode client : afficher la simulation d'un serveur (--connect=hôte:port)
+        String connect = getParameters().getNamed().get("connect");
+        if (connect != null) {
+            GameOfLifeController controller = fxmlLoader.getController();
+            int separator = connect.lastIndexOf(':');
+            String host = separator > 0 ? connect.substring(0, separator) : connect;
+            int port = separator > 0 ? Integer.parseInt(connect.substring(separator + 1)) : SimulationServer.DEFAULT_PORT;
+            controller.connectTo(host, port);
+            stage.setOnHidden(event -> controller.disconnect());
+        }
+
         stage.show();
     }
 
@@ -32,6 +44,6 @@ public class GameOfLifeApplication extends Application {
      * @param args Arguments de la ligne de commande
      */
     public static void main(String[] args) {
-        launch();
+        launch(args);
     }
 }
\ No newline at end of file
@@ -10,14 +10,19 @@ import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.Menu;
 import javafx.scene.control.MenuItem;
+import javafx.scene.control.RadioMenuItem;
 import javafx.scene.control.Slider;
+import javafx.scene.control.ToggleGroup;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.paint.Color;
 
+import java.util.List;
+
 /**
  * Contrôleur pour l'interface utilisateur du Jeu de la Vie.
  * Gère les interactions utilisateur et la mise à jour de l'affichage.
@@ -32,14 +37,17 @@ public class GameOfLifeController {
     @FXML private Button randomButton;
     @FXML private MenuItem startStopMenuItem;
     @FXML private MenuItem stepMenuItem;
+    @FXML private Menu engineMenu;
     @FXML private Slider speedSlider;
     @FXML private Label speedValueLabel;
     @FXML private Slider zoomSlider;
     @FXML private Label zoomValueLabel;
     @FXML private Label statusLabel;
 
-    private GameOfLife gameOfLife;
+    private LifeEngine gameOfLife;
     private AnimationTimer gameLoop;
+    private AnimationTimer remoteRenderLoop; // Redessine au plus une fois par image en mode client
+    private boolean redrawPending = false; // Des messages du serveur ont été appliqués depuis le dernier dessin
     private boolean isRunning = false;
     private double cellSize = 8.0; // Taille initiale des cellules
     private double offsetX = 0.0;  // Décalage X pour le panoramique
@@ -51,6 +59,8 @@ public class GameOfLifeController {
     private int frameCount = 0;    // Compteur de frames pour limiter la fréquence de mise à jour
     private int generationCount = 0; // Compteur de générations
     @FXML private Label generationCountLabel; // Étiquette pour afficher le nombre de générations
+    private SimulationClient simulationClient; // Connexion au serveur en mode client, null sinon
+    private boolean[] visibleCells = new boolean[0]; // Cellules visibles, lues d'un bloc avant chaque dessin
 
     /**
      * Initialise le contrôleur après le chargement du FXML.
@@ -60,7 +70,12 @@ public class GameOfLifeController {
         // Initialiser le modèle avec une taille basée sur la taille du canvas
         int gridWidth = (int) (gameCanvas.getWidth() / cellSize);
         int gridHeight = (int) (gameCanvas.getHeight() / cellSize);
-        gameOfLife = new GameOfLife(gridWidth, gridHeight);
+        // Le premier moteur déclaré est le moteur par défaut
+        List<LifeEngine> engines = LifeEngine.loadAll(gridWidth, gridHeight);
+        gameOfLife = engines.get(0);
+
+        // Proposer les moteurs de calcul disponibles
+        setupEngineMenu(engines);
 
         // Configurer les écouteurs d'événements pour le canvas
         setupCanvasEvents();
@@ -78,6 +93,96 @@ public class GameOfLifeController {
         updateLabels();
     }
 
+    /**
+     * Passe en mode client : la grille locale n'est plus simulée mais mise à jour
+     * à partir des messages d'un serveur de simulation.
+     *
+     * @param host Adresse du serveur
+     * @param port Port TCP du serveur
+     */
+    public void connectTo(String host, int port) {
+        if (isRunning) {
+            onStartStopButtonClick();
+        }
+
+        // Les messages sont appliqués sur le fil JavaFX, un à la fois
+        simulationClient = new SimulationClient(host, port, Platform::runLater, this::applyRemoteFrame);
+        simulationClient.setOnDisconnect(() -> Platform.runLater(() ->
+                statusLabel.setText("Connexion au serveur perdue.")));
+        simulationClient.setOnConnectFailed(e -> Platform.runLater(() -> {
+            statusLabel.setText("Impossible de se connecter au serveur " + host + ":" + port + ".");
+
+            Alert alert = new Alert(AlertType.ERROR);
+            alert.setTitle("Erreur de connexion");
+            alert.setHeaderText("Impossible de se connecter au serveur de simulation");
+            alert.setContentText(e.getMessage());
+            alert.show();
+        }));
+
+        // Les commandes de simulation locale sont sans effet en mode client
+        startStopButton.setDisable(true);
+        startStopMenuItem.setDisable(true);
+        stepButton.setDisable(true);
+        stepMenuItem.setDisable(true);
+        clearButton.setDisable(true);
+        randomButton.setDisable(true);
+
+        // La connexion se fait en arrière-plan : ne pas bloquer l'affichage de la fenêtre
+        statusLabel.setText("Connexion au serveur " + host + ":" + port + "...");
+        startRemoteRenderLoop();
+        simulationClient.connect();
+    }
+
+    /**
+     * Démarre le dessin de la grille en mode client : les messages appliqués entre deux
+     * images de l'affichage ne provoquent qu'un seul dessin.
+     */
+    private void startRemoteRenderLoop() {
+        remoteRenderLoop = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                if (redrawPending) {
+                    redrawPending = false;
+                    drawGrid();
+                    updateGenerationLabel();
+                }
+            }
+        };
+        remoteRenderLoop.start();
+    }
+
+    /**
+     * Ferme la connexion au serveur de simulation, si elle existe.
+     */
+    public void disconnect() {
+        if (simulationClient != null) {
+            simulationClient.disconnect();
+            remoteRenderLoop.stop();
+        }
+    }
+
+    /**
+     * Indique si le contrôleur affiche la simulation d'un serveur.
+     *
+     * @return true en mode client
+     */
+    private boolean isRemote() {
+        return simulationClient != null;
+    }
+
+    /**
+     * Applique un message du serveur à la grille locale ; le dessin est fait à la prochaine
+     * image de l'affichage. Cette méthode est appelée sur le fil JavaFX.
+     */
+    private void applyRemoteFrame(SimulationFrame frame) {
+        if (frame.isKeyframe()) {
+            updateStatusLabel();
+        }
+        frame.applyTo(gameOfLife);
+        generationCount = (int) frame.getGeneration();
+        redrawPending = true;
+    }
+
     /**
      * Configure les écouteurs d'événements pour le canvas.
      */
@@ -86,6 +191,49 @@ public class GameOfLifeController {
         gameCanvas.setOnMouseClicked(this::handleCanvasClick);
     }
 
+    /**
+     * Remplit le menu des moteurs de calcul avec les moteurs déclarés comme services.
+     *
+     * @param engines Moteurs disponibles, dont le moteur courant
+     */
+    private void setupEngineMenu(List<LifeEngine> engines) {
+        ToggleGroup engineGroup = new ToggleGroup();
+
+        for (LifeEngine engine : engines) {
+            RadioMenuItem item = new RadioMenuItem(engine.getName());
+            item.setToggleGroup(engineGroup);
+            item.setSelected(engine == gameOfLife);
+            item.setOnAction(event -> switchEngine(engine));
+            engineMenu.getItems().add(item);
+        }
+    }
+
+    /**
+     * Remplace le moteur de calcul en lui transmettant la grille courante.
+     *
+     * @param engine Nouveau moteur
+     */
+    private void switchEngine(LifeEngine engine) {
+        if (engine == gameOfLife) {
+            return;
+        }
+
+        int width = gameOfLife.getWidth();
+        int height = gameOfLife.getHeight();
+        boolean[] cells = new boolean[width * height];
+        gameOfLife.readRegion(0, 0, width, height, cells);
+
+        engine.resize(width, height);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                engine.setCell(x, y, cells[x * height + y]);
+            }
+        }
+
+        gameOfLife = engine;
+        drawGrid();
+    }
+
     /**
      * Configure les écouteurs pour les sliders.
      */
@@ -132,6 +280,8 @@ public class GameOfLifeController {
      */
     @FXML
     private void onStartStopButtonClick() {
+        if (isRemote()) return;
+
         isRunning = !isRunning;
 
         if (isRunning) {
@@ -197,6 +347,8 @@ public class GameOfLifeController {
      */
     @FXML
     private void onStepButtonClick() {
+        if (isRemote()) return;
+
         gameOfLife.nextGeneration();
         generationCount++;
         drawGrid();
@@ -209,6 +361,8 @@ public class GameOfLifeController {
      */
     @FXML
     private void onClearButtonClick() {
+        if (isRemote()) return;
+
         gameOfLife.clear();
         generationCount = 0;
         drawGrid();
@@ -221,6 +375,8 @@ public class GameOfLifeController {
      */
     @FXML
     private void onRandomButtonClick() {
+        if (isRemote()) return;
+
         gameOfLife.randomize(0.3); // 30% de cellules vivantes
         drawGrid();
         updateStatusLabel();
@@ -285,6 +441,9 @@ public class GameOfLifeController {
      * Gère le clic sur le canvas pour ajouter/supprimer des cellules.
      */
     private void handleCanvasClick(MouseEvent event) {
+        // La grille d'un serveur n'est pas modifiable depuis un client
+        if (isRemote()) return;
+
         int gridX = (int) ((event.getX() - offsetX) / cellSize);
         int gridY = (int) ((event.getY() - offsetY) / cellSize);
 
@@ -303,6 +462,9 @@ public class GameOfLifeController {
      * Cette méthode est appelée lors de l'initialisation et lors du zoom.
      */
     private void resizeGrid() {
+        // En mode client, les dimensions sont imposées par le serveur
+        if (isRemote()) return;
+
         // Calculer la nouvelle taille de la grille en fonction de la taille du canvas et du zoom
         int newWidth = Math.max(1, (int) (gameCanvas.getWidth() / cellSize));
         int newHeight = Math.max(1, (int) (gameCanvas.getHeight() / cellSize));
@@ -394,16 +556,27 @@ public class GameOfLifeController {
         // Dessiner les cellules vivantes
         gc.setFill(Color.LIGHTGREEN);
 
-        for (int x = 0; x < gameOfLife.getWidth(); x++) {
-            for (int y = 0; y < gameOfLife.getHeight(); y++) {
-                if (gameOfLife.isAlive(x, y)) {
-                    double screenX = x * cellSize + offsetX;
-                    double screenY = y * cellSize + offsetY;
-
-                    // Ne dessiner que les cellules visibles
-                    if (screenX + cellSize >= 0 && screenX < gameCanvas.getWidth() &&
-                        screenY + cellSize >= 0 && screenY < gameCanvas.getHeight()) {
+        // Ne lire que les cellules visibles, d'un seul bloc
+        int minX = Math.max(0, (int) Math.floor(-offsetX / cellSize));
+        int minY = Math.max(0, (int) Math.floor(-offsetY / cellSize));
+        int maxX = Math.min(gameOfLife.getWidth(),
+                (int) Math.ceil((gameCanvas.getWidth() - offsetX) / cellSize));
+        int maxY = Math.min(gameOfLife.getHeight(),
+                (int) Math.ceil((gameCanvas.getHeight() - offsetY) / cellSize));
+        int visibleWidth = maxX - minX;
+        int visibleHeight = maxY - minY;
+
+        if (visibleWidth > 0 && visibleHeight > 0) {
+            if (visibleCells.length < visibleWidth * visibleHeight) {
+                visibleCells = new boolean[visibleWidth * visibleHeight];
+            }
+            gameOfLife.readRegion(minX, minY, visibleWidth, visibleHeight, visibleCells);
 
+            for (int i = 0; i < visibleWidth; i++) {
+                for (int j = 0; j < visibleHeight; j++) {
+                    if (visibleCells[i * visibleHeight + j]) {
+                        double screenX = (minX + i) * cellSize + offsetX;
+                        double screenY = (minY + j) * cellSize + offsetY;
                         gc.fillRect(screenX, screenY, cellSize - 1, cellSize - 1);
                     }
                 }
@@ -454,7 +627,9 @@ public class GameOfLifeController {
      * Met à jour l'étiquette de statut.
      */
     private void updateStatusLabel() {
-        if (isRunning) {
+        if (isRemote()) {
+            statusLabel.setText("Connecté au serveur de simulation.");
+        } else if (isRunning) {
             statusLabel.setText("Simulation en cours... Cliquez sur 'Arrêter' pour mettre en pause.");
         } else {
             statusLabel.setText("Cliquez sur la grille pour ajouter/supprimer des cellules.");
@@ -0,0 +1,193 @@
+package illumination.jeudelavie;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Moteur de calcul du Jeu de la Vie sur une grille toroïdale.
+ * {@link GameOfLife} est l'implémentation de référence : toute autre implémentation doit
+ * produire exactement les mêmes générations (voir le test {@code LifeEngineFuzzTest}).
+ * Les moteurs sont déclarés comme services dans {@code module-info.java} et doivent donc
+ * disposer d'un constructeur public sans argument ; le premier moteur déclaré est celui
+ * utilisé par défaut.
+ */
+public interface LifeEngine {
+
+    /**
+     * Largeur et hauteur maximales d'une grille, communes à tous les moteurs pour qu'ils restent
+     * interchangeables (et qu'une grille diffusée par un serveur puisse être reproduite par les clients).
+     */
+    int MAX_DIMENSION = 2000;
+
+    /**
+     * Obtient le nom du moteur, affiché dans l'interface.
+     *
+     * @return Nom du moteur
+     */
+    String getName();
+
+    /**
+     * Efface la grille (toutes les cellules mortes).
+     */
+    void clear();
+
+    /**
+     * Remplit la grille avec des cellules aléatoires.
+     *
+     * @param density Densité des cellules vivantes (0.0 à 1.0)
+     */
+    void randomize(double density);
+
+    /**
+     * Fait évoluer la grille d'une génération selon les règles du Jeu de la Vie.
+     */
+    void nextGeneration();
+
+    /**
+     * Fait évoluer la grille de plusieurs générations.
+     * La zone modifiée ({@link #getChangedRegion()}) est celle de la dernière génération calculée.
+     *
+     * @param count Nombre de générations
+     */
+    default void nextGenerations(int count) {
+        for (int i = 0; i < count; i++) {
+            nextGeneration();
+        }
+    }
+
+    /**
+     * Bascule l'état d'une cellule (vivante à morte ou morte à vivante).
+     *
+     * @param x Coordonnée X de la cellule
+     * @param y Coordonnée Y de la cellule
+     */
+    void toggleCell(int x, int y);
+
+    /**
+     * Définit l'état d'une cellule.
+     *
+     * @param x     Coordonnée X de la cellule
+     * @param y     Coordonnée Y de la cellule
+     * @param alive true pour vivante, false pour morte
+     */
+    void setCell(int x, int y, boolean alive);
+
+    /**
+     * Vérifie si une cellule est vivante.
+     *
+     * @param x Coordonnée X de la cellule
+     * @param y Coordonnée Y de la cellule
+     * @return true si la cellule est vivante, false sinon (ou hors de la grille)
+     */
+    boolean isAlive(int x, int y);
+
+    /**
+     * Copie l'état d'une zone rectangulaire de la grille.
+     * Les cellules hors de la grille sont considérées comme mortes.
+     *
+     * @param x           Coordonnée X du coin supérieur gauche
+     * @param y           Coordonnée Y du coin supérieur gauche
+     * @param width       Largeur de la zone
+     * @param height      Hauteur de la zone
+     * @param destination Tableau d'au moins {@code width * height} cases,
+     *                    la cellule (x + i, y + j) est écrite à l'index {@code i * height + j}
+     */
+    default void readRegion(int x, int y, int width, int height, boolean[] destination) {
+        for (int i = 0; i < width; i++) {
+            for (int j = 0; j < height; j++) {
+                destination[i * height + j] = isAlive(x + i, y + j);
+            }
+        }
+    }
+
+    /**
+     * Remplace l'état d'une zone rectangulaire de la grille.
+     * Les cellules hors de la grille sont ignorées.
+     *
+     * @param x      Coordonnée X du coin supérieur gauche
+     * @param y      Coordonnée Y du coin supérieur gauche
+     * @param width  Largeur de la zone
+     * @param height Hauteur de la zone
+     * @param source Tableau d'au moins {@code width * height} cases,
+     *               la cellule (x + i, y + j) est lue à l'index {@code i * height + j}
+     */
+    default void writeRegion(int x, int y, int width, int height, boolean[] source) {
+        for (int i = 0; i < width; i++) {
+            for (int j = 0; j < height; j++) {
+                setCell(x + i, y + j, source[i * height + j]);
+            }
+        }
+    }
+
+    /**
+     * Obtient la largeur de la grille.
+     *
+     * @return Largeur de la grille
+     */
+    int getWidth();
+
+    /**
+     * Obtient la hauteur de la grille.
+     *
+     * @return Hauteur de la grille
+     */
+    int getHeight();
+
+    /**
+     * Redimensionne la grille tout en préservant les cellules existantes.
+     *
+     * @param newWidth  Nouvelle largeur
+     * @param newHeight Nouvelle hauteur
+     * @throws IllegalArgumentException si les dimensions sont négatives ou dépassent {@link #MAX_DIMENSION}
+     */
+    void resize(int newWidth, int newHeight);
+
+    /**
+     * Obtient le nombre de cellules vivantes.
+     *
+     * @return Population de la grille
+     */
+    long getPopulation();
+
+    /**
+     * Obtient le plus petit rectangle contenant toutes les cellules modifiées par la
+     * dernière génération calculée.
+     *
+     * @return Zone modifiée, ou null si aucune cellule n'a changé
+     */
+    CellRegion getChangedRegion();
+
+    /**
+     * Charge tous les moteurs déclarés comme services, avec les dimensions demandées.
+     *
+     * @param width  Largeur de la grille
+     * @param height Hauteur de la grille
+     * @return Moteurs disponibles, dans l'ordre de leur déclaration
+     */
+    static List<LifeEngine> loadAll(int width, int height) {
+        List<LifeEngine> engines = new ArrayList<>();
+        for (LifeEngine engine : ServiceLoader.load(LifeEngine.class)) {
+            engine.resize(width, height);
+            engines.add(engine);
+        }
+        return engines;
+    }
+
+    /**
+     * Vérifie les dimensions demandées pour une grille.
+     *
+     * @param width  Largeur de la grille
+     * @param height Hauteur de la grille
+     * @throws IllegalArgumentException si les dimensions sont négatives ou dépassent {@link #MAX_DIMENSION}
+     */
+    static void checkDimensions(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Les dimensions de la grille doivent être positives");
+        }
+        if (width > MAX_DIMENSION || height > MAX_DIMENSION) {
+            throw new IllegalArgumentException("Les dimensions de la grille sont trop grandes (maximum "
+                    + MAX_DIMENSION + ")");
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package illumination.jeudelavie;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Ensemble de {@code long} à adressage ouvert (sondage linéaire), sans objets {@code Long}.
+ * La valeur {@link Long#MIN_VALUE} sert à marquer les cases vides et ne peut pas être ajoutée.
+ */
+public class LongHashSet {
+    /** Marqueur des cases vides. */
+    static final long EMPTY = Long.MIN_VALUE;
+
+    /** Taux de remplissage au-delà duquel la table est agrandie. */
+    private static final double LOAD_FACTOR = 0.5;
+
+    private long[] keys;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    /**
+     * Constructeur d'un ensemble vide.
+     *
+     * @param expectedSize Nombre d'éléments attendus, pour éviter les agrandissements
+     */
+    public LongHashSet(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Ajoute une valeur.
+     *
+     * @param key Valeur à ajouter
+     * @return true si la valeur n'était pas déjà présente
+     */
+    public boolean add(long key) {
+        checkKey(key);
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        if (++size > resizeThreshold) {
+            rehash(keys.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Retire une valeur.
+     *
+     * @param key Valeur à retirer
+     * @return true si la valeur était présente
+     */
+    public boolean remove(long key) {
+        if (key == EMPTY) {
+            return false;
+        }
+
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                keys[slot] = EMPTY;
+                size--;
+                shiftBack(slot);
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Vérifie la présence d'une valeur.
+     *
+     * @param key Valeur recherchée
+     * @return true si la valeur est présente
+     */
+    public boolean contains(long key) {
+        if (key == EMPTY) {
+            return false;
+        }
+
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Obtient le nombre de valeurs de l'ensemble.
+     *
+     * @return Nombre de valeurs
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retire toutes les valeurs. La capacité est conservée, sauf si elle dépasse largement
+     * le contenu retiré : la table est alors réduite pour que les vidages suivants restent rapides.
+     */
+    public void clear() {
+        int wanted = tableSizeFor(size);
+        if (keys.length > 4 * wanted) {
+            allocate(wanted);
+        } else if (size > 0) {
+            Arrays.fill(keys, EMPTY);
+        }
+        size = 0;
+    }
+
+    /**
+     * Parcourt toutes les valeurs, dans un ordre quelconque.
+     * L'ensemble ne doit pas être modifié pendant le parcours.
+     *
+     * @param action Action appelée pour chaque valeur
+     */
+    public void forEach(LongConsumer action) {
+        for (long key : keys) {
+            if (key != EMPTY) {
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * Copie toutes les valeurs dans un tableau, dans un ordre quelconque.
+     *
+     * @return Tableau de {@link #size()} valeurs
+     */
+    public long[] toArray() {
+        long[] result = new long[size];
+        int count = 0;
+        for (long key : keys) {
+            if (key != EMPTY) {
+                result[count++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Après une suppression, remonte les valeurs suivantes de la même séquence de sondage
+     * pour qu'aucune ne devienne inaccessible (suppression sans marqueur).
+     */
+    private void shiftBack(int freed) {
+        int slot = (freed + 1) & mask;
+        while (keys[slot] != EMPTY) {
+            int home = slot(keys[slot]);
+            // La valeur peut combler le trou si sa case d'origine ne se trouve pas entre le trou et elle
+            if (((slot - home) & mask) >= ((slot - freed) & mask)) {
+                keys[freed] = keys[slot];
+                keys[slot] = EMPTY;
+                freed = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        allocate(newCapacity);
+        for (long key : oldKeys) {
+            if (key != EMPTY) {
+                int slot = slot(key);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int slot(long key) {
+        return mix(key) & mask;
+    }
+
+    /**
+     * Mélange les bits de la clé : les coordonnées empaquetées ont peu de bits significatifs.
+     */
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Calcule une capacité (puissance de 2) suffisante pour le nombre d'éléments attendus.
+     */
+    static int tableSizeFor(int expectedSize) {
+        int capacity = 16;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static void checkKey(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Long.MIN_VALUE ne peut pas être ajouté à l'ensemble");
+        }
+    }
+}
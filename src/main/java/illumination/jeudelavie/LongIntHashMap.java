@@ -0,0 +1,128 @@
+package illumination.jeudelavie;
+
+import java.util.Arrays;
+
+/**
+ * Table de compteurs {@code long} vers {@code int} à adressage ouvert, sans objets {@code Long}
+ * ni {@code Integer}. Elle sert à compter les voisins vivants autour des cellules d'une grille
+ * creuse ; seules l'incrémentation et le parcours sont donc proposés.
+ * La clé {@link Long#MIN_VALUE} est réservée, comme pour {@link LongHashSet}.
+ */
+public class LongIntHashMap {
+    /** Taux de remplissage au-delà duquel la table est agrandie. */
+    private static final double LOAD_FACTOR = 0.5;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    /**
+     * Action appelée pour chaque entrée lors d'un parcours.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        /**
+         * @param key   Clé de l'entrée
+         * @param value Valeur de l'entrée
+         */
+        void accept(long key, int value);
+    }
+
+    /**
+     * Constructeur d'une table vide.
+     *
+     * @param expectedSize Nombre d'entrées attendues, pour éviter les agrandissements
+     */
+    public LongIntHashMap(int expectedSize) {
+        allocate(LongHashSet.tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Ajoute 1 à la valeur associée à une clé (0 si la clé est absente).
+     *
+     * @param key Clé à incrémenter
+     */
+    public void increment(long key) {
+        if (key == LongHashSet.EMPTY) {
+            throw new IllegalArgumentException("Long.MIN_VALUE ne peut pas être utilisé comme clé");
+        }
+
+        int slot = LongHashSet.mix(key) & mask;
+        while (keys[slot] != LongHashSet.EMPTY) {
+            if (keys[slot] == key) {
+                values[slot]++;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = 1;
+        if (++size > resizeThreshold) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * Obtient le nombre d'entrées de la table.
+     *
+     * @return Nombre d'entrées
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retire toutes les entrées. La capacité est conservée, sauf si elle dépasse largement
+     * le contenu retiré : la table est alors réduite pour que les vidages suivants restent rapides.
+     */
+    public void clear() {
+        int wanted = LongHashSet.tableSizeFor(size);
+        if (keys.length > 4 * wanted) {
+            allocate(wanted);
+        } else if (size > 0) {
+            Arrays.fill(keys, LongHashSet.EMPTY);
+        }
+        size = 0;
+    }
+
+    /**
+     * Parcourt toutes les entrées, dans un ordre quelconque.
+     * La table ne doit pas être modifiée pendant le parcours.
+     *
+     * @param action Action appelée pour chaque entrée
+     */
+    public void forEach(EntryConsumer action) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != LongHashSet.EMPTY) {
+                action.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != LongHashSet.EMPTY) {
+                int slot = LongHashSet.mix(oldKeys[i]) & mask;
+                while (keys[slot] != LongHashSet.EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, LongHashSet.EMPTY);
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+}
@@ -1,5 +1,7 @@
 package illumination.jeudelavie;
 
+import java.io.IOException;
+
 /**
  * Classe principale pour lancer le Jeu de la Vie de Conway.
  * Cette classe sert de point d'entrée pour l'application.
@@ -8,11 +10,19 @@ public class Main {
     
     /**
      * Point d'entrée principal de l'application.
-     * Cette méthode délègue le lancement à la classe GameOfLifeApplication.
+     * Cette méthode délègue le lancement à la classe GameOfLifeApplication, ou à
+     * SimulationServer si l'option {@code --server=port} est présente.
      *
      * @param args Arguments de la ligne de commande
+     * @throws IOException si le serveur ne peut pas ouvrir son port
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        for (String arg : args) {
+            if (arg.startsWith("--server=")) {
+                SimulationServer.main(args);
+                return;
+            }
+        }
         GameOfLifeApplication.main(args);
     }
 }
\ No newline at end of file
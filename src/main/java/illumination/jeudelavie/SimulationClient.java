@@ -0,0 +1,149 @@
+package illumination.jeudelavie;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Client d'un serveur de simulation.
+ * La connexion et la lecture des messages se font sur un fil dédié, pour ne jamais bloquer
+ * l'appelant (par exemple le fil JavaFX) ; les messages sont transmis à l'écouteur, qui est
+ * chargé de les appliquer à sa propre grille.
+ * <p>
+ * Un message n'est transmis qu'une fois le précédent traité par l'écouteur : un écouteur trop
+ * lent arrête la lecture, la connexion TCP se remplit et le serveur fait passer ce client aux
+ * images clés au lieu d'accumuler les messages en mémoire.
+ */
+public class SimulationClient {
+    /** Délai maximal d'établissement de la connexion, en millisecondes. */
+    private static final int CONNECT_TIMEOUT_MS = 5000;
+
+    private final String host;
+    private final int port;
+    private final Executor executor;
+    private final Consumer<SimulationFrame> listener;
+    private Runnable onDisconnect = () -> { };
+    private Consumer<IOException> onConnectFailed = e -> { };
+
+    private volatile Socket socket;
+    private volatile Thread reader;
+    private volatile boolean closed = false;
+
+    /**
+     * Constructeur du client.
+     *
+     * @param host     Adresse du serveur
+     * @param port     Port TCP du serveur
+     * @param executor Exécuteur sur lequel l'écouteur est appelé (par exemple {@code Platform::runLater})
+     * @param listener Écouteur appelé pour chaque message reçu
+     */
+    public SimulationClient(String host, int port, Executor executor, Consumer<SimulationFrame> listener) {
+        this.host = host;
+        this.port = port;
+        this.executor = executor;
+        this.listener = listener;
+    }
+
+    /**
+     * Définit l'action exécutée lorsque la connexion est perdue.
+     *
+     * @param onDisconnect Action appelée depuis le fil de lecture
+     */
+    public void setOnDisconnect(Runnable onDisconnect) {
+        this.onDisconnect = onDisconnect;
+    }
+
+    /**
+     * Définit l'action exécutée lorsque la connexion au serveur ne peut pas être établie.
+     *
+     * @param onConnectFailed Action appelée depuis le fil de lecture, avec la cause de l'échec
+     */
+    public void setOnConnectFailed(Consumer<IOException> onConnectFailed) {
+        this.onConnectFailed = onConnectFailed;
+    }
+
+    /**
+     * Lance la connexion au serveur puis la lecture des messages, sur un fil dédié.
+     * Cette méthode rend la main immédiatement ; un échec de connexion est signalé
+     * par l'action définie avec {@link #setOnConnectFailed(Consumer)}.
+     */
+    public void connect() {
+        reader = new Thread(this::connectAndRead, "simulation-client-reader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * Ferme la connexion au serveur.
+     */
+    public void disconnect() {
+        closed = true;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Connexion déjà fermée
+            }
+        }
+        // Le fil de lecture peut attendre l'écouteur
+        if (reader != null) {
+            reader.interrupt();
+        }
+    }
+
+    /**
+     * Établit la connexion puis lit les messages du serveur jusqu'à sa fermeture.
+     */
+    private void connectAndRead() {
+        Socket newSocket = new Socket();
+        socket = newSocket;
+        try {
+            newSocket.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MS);
+            newSocket.setTcpNoDelay(true);
+        } catch (IOException e) {
+            if (!closed) {
+                closed = true;
+                onConnectFailed.accept(e);
+            }
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+            CountDownLatch previousApplied = new CountDownLatch(0);
+            while (!closed) {
+                SimulationFrame frame = DeltaProtocol.readFrame(in);
+
+                // Attendre que l'écouteur ait traité le message précédent avant de transmettre celui-ci
+                previousApplied.await();
+                CountDownLatch applied = new CountDownLatch(1);
+                executor.execute(() -> {
+                    try {
+                        listener.accept(frame);
+                    } finally {
+                        applied.countDown();
+                    }
+                });
+                previousApplied = applied;
+            }
+        } catch (EOFException e) {
+            // Le serveur a fermé la connexion
+        } catch (InterruptedException e) {
+            // Déconnexion demandée pendant l'attente de l'écouteur
+        } catch (IOException e) {
+            if (!closed) {
+                System.err.println("Connexion au serveur perdue: " + e.getMessage());
+            }
+        } finally {
+            if (!closed) {
+                closed = true;
+                onDisconnect.run();
+            }
+        }
+    }
+}
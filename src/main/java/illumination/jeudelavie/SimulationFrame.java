@@ -0,0 +1,94 @@
+package illumination.jeudelavie;
+
+/**
+ * Message reçu d'un serveur de simulation : image clé (grille complète) ou delta
+ * (cellules ayant changé d'état depuis la génération précédente).
+ */
+public class SimulationFrame {
+    private final boolean keyframe;
+    private final long generation;
+    private final int width;
+    private final int height;
+    private final boolean[] cells;
+    private final int[] changed;
+
+    private SimulationFrame(boolean keyframe, long generation, int width, int height,
+                            boolean[] cells, int[] changed) {
+        this.keyframe = keyframe;
+        this.generation = generation;
+        this.width = width;
+        this.height = height;
+        this.cells = cells;
+        this.changed = changed;
+    }
+
+    /**
+     * Crée une image clé.
+     *
+     * @param generation Numéro de génération
+     * @param width      Largeur de la grille
+     * @param height     Hauteur de la grille
+     * @param cells      État des cellules, indexé par {@code x * height + y}
+     * @return Image clé
+     */
+    static SimulationFrame keyframe(long generation, int width, int height, boolean[] cells) {
+        return new SimulationFrame(true, generation, width, height, cells, null);
+    }
+
+    /**
+     * Crée un delta.
+     *
+     * @param generation Numéro de génération
+     * @param changed    Index des cellules ayant changé d'état
+     * @return Delta
+     */
+    static SimulationFrame delta(long generation, int[] changed) {
+        return new SimulationFrame(false, generation, 0, 0, null, changed);
+    }
+
+    /**
+     * Applique ce message à une grille locale.
+     * Une image clé redimensionne la grille et remplace toutes les cellules,
+     * un delta bascule uniquement les cellules modifiées.
+     *
+     * @param gameOfLife Grille à mettre à jour
+     */
+    public void applyTo(LifeEngine gameOfLife) {
+        if (keyframe) {
+            gameOfLife.resize(width, height);
+            gameOfLife.writeRegion(0, 0, width, height, cells);
+        } else {
+            int gridHeight = gameOfLife.getHeight();
+            for (int index : changed) {
+                gameOfLife.toggleCell(index / gridHeight, index % gridHeight);
+            }
+        }
+    }
+
+    /**
+     * Indique si ce message est une image clé.
+     *
+     * @return true pour une image clé, false pour un delta
+     */
+    public boolean isKeyframe() {
+        return keyframe;
+    }
+
+    /**
+     * Obtient le numéro de génération de ce message.
+     *
+     * @return Numéro de génération
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Obtient le nombre de cellules modifiées par ce delta.
+     *
+     * @return Nombre de cellules modifiées, 0 pour une image clé
+     */
+    public int getChangedCount() {
+        return keyframe ? 0 : changed.length;
+    }
+}
@@ -0,0 +1,400 @@
+package illumination.jeudelavie;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Serveur de simulation sans interface graphique.
+ * Le serveur fait évoluer une grille à vitesse constante et diffuse chaque génération aux
+ * clients connectés en TCP : une image clé à la connexion, puis uniquement les cellules
+ * modifiées (voir {@link DeltaProtocol}). Un client en retard sur les deltas ne reçoit plus
+ * que des images clés, au rythme auquel il parvient à les lire, puis repasse aux deltas dès
+ * qu'il a rattrapé son retard.
+ */
+public class SimulationServer {
+    /** Port TCP utilisé par défaut. */
+    public static final int DEFAULT_PORT = 4242;
+
+    /** Nombre de messages en attente au-delà duquel un client est considéré comme en retard. */
+    private static final int CLIENT_QUEUE_CAPACITY = 32;
+
+    private final LifeEngine gameOfLife;
+    private final int port;
+    private final double generationsPerSecond;
+    private final int clientQueueCapacity;
+    private final List<ClientConnection> clients = new CopyOnWriteArrayList<>();
+    private final Queue<ClientConnection> pendingClients = new ConcurrentLinkedQueue<>();
+
+    private ServerSocket serverSocket;
+    private volatile boolean running = false;
+    private long generation = 0;
+    private boolean[] previousCells;
+    private boolean[] regionCells;
+    private int[] changedCells;
+
+    /**
+     * Constructeur du serveur.
+     *
+     * @param gameOfLife           Moteur à simuler, utilisé uniquement par le serveur
+     * @param port                 Port TCP d'écoute (0 pour un port libre quelconque)
+     * @param generationsPerSecond Nombre de générations calculées par seconde
+     * @throws IllegalArgumentException si la vitesse n'est pas positive ou si la grille dépasse
+     *                                  {@link LifeEngine#MAX_DIMENSION}
+     */
+    public SimulationServer(LifeEngine gameOfLife, int port, double generationsPerSecond) {
+        this(gameOfLife, port, generationsPerSecond, CLIENT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Constructeur du serveur avec une taille de file par client donnée.
+     *
+     * @param gameOfLife           Moteur à simuler, utilisé uniquement par le serveur
+     * @param port                 Port TCP d'écoute (0 pour un port libre quelconque)
+     * @param generationsPerSecond Nombre de générations calculées par seconde
+     * @param clientQueueCapacity  Nombre de messages en attente au-delà duquel un client est en retard
+     */
+    SimulationServer(LifeEngine gameOfLife, int port, double generationsPerSecond, int clientQueueCapacity) {
+        if (generationsPerSecond <= 0) {
+            throw new IllegalArgumentException("La vitesse de simulation doit être positive");
+        }
+        LifeEngine.checkDimensions(gameOfLife.getWidth(), gameOfLife.getHeight());
+        this.gameOfLife = gameOfLife;
+        this.port = port;
+        this.generationsPerSecond = generationsPerSecond;
+        this.clientQueueCapacity = clientQueueCapacity;
+    }
+
+    /**
+     * Ouvre le port d'écoute et démarre la simulation.
+     *
+     * @throws IOException si le port ne peut pas être ouvert
+     */
+    public void start() throws IOException {
+        serverSocket = new ServerSocket(port);
+        previousCells = snapshot();
+        regionCells = new boolean[previousCells.length];
+        changedCells = new int[previousCells.length];
+        running = true;
+
+        Thread acceptThread = new Thread(this::acceptClients, "simulation-server-accept");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+
+        Thread simulationThread = new Thread(this::runSimulation, "simulation-server-loop");
+        simulationThread.setDaemon(true);
+        simulationThread.start();
+    }
+
+    /**
+     * Arrête la simulation et ferme toutes les connexions.
+     */
+    public void stop() {
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // Le port est de toute façon libéré
+        }
+        for (ClientConnection client : clients) {
+            client.close();
+        }
+        for (ClientConnection client : pendingClients) {
+            client.close();
+        }
+    }
+
+    /**
+     * Obtient le port d'écoute effectif du serveur.
+     *
+     * @return Port TCP
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Obtient le nombre de clients connectés.
+     *
+     * @return Nombre de clients
+     */
+    public int getClientCount() {
+        return clients.size() + pendingClients.size();
+    }
+
+    /**
+     * Accepte les nouvelles connexions. Les clients reçoivent leur image clé depuis la
+     * boucle de simulation, seule à accéder à la grille.
+     */
+    private void acceptClients() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                ClientConnection client = new ClientConnection(socket, clientQueueCapacity);
+                pendingClients.add(client);
+                client.start();
+            } catch (SocketException e) {
+                // Socket fermée par stop()
+                break;
+            } catch (IOException e) {
+                System.err.println("Erreur lors de l'acceptation d'un client: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Boucle de simulation : calcule une génération puis la diffuse à tous les clients.
+     */
+    private void runSimulation() {
+        long periodNanos = (long) (1_000_000_000 / generationsPerSecond);
+        long nextTick = System.nanoTime();
+
+        while (running) {
+            gameOfLife.nextGeneration();
+            generation++;
+
+            byte[] delta = DeltaProtocol.encodeDelta(generation, changedCells, collectChanges());
+            KeyframeCache keyframe = new KeyframeCache();
+
+            for (ClientConnection client : clients) {
+                if (client.isClosed()) {
+                    clients.remove(client);
+                } else {
+                    client.send(delta, keyframe);
+                }
+            }
+
+            // Les nouveaux clients démarrent sur l'état courant
+            ClientConnection pending;
+            while ((pending = pendingClients.poll()) != null) {
+                pending.sendKeyframe(keyframe.get());
+                clients.add(pending);
+            }
+
+            nextTick += periodNanos;
+            long sleepNanos = nextTick - System.nanoTime();
+            if (sleepNanos > 0) {
+                try {
+                    Thread.sleep(sleepNanos / 1_000_000, (int) (sleepNanos % 1_000_000));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            } else {
+                // Trop de retard : ne pas essayer de rattraper les générations manquées
+                nextTick = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Compare la zone modifiée par la dernière génération à l'état précédent et remplit
+     * {@link #changedCells} avec les index croissants des cellules modifiées.
+     *
+     * @return Nombre de cellules modifiées
+     */
+    private int collectChanges() {
+        CellRegion region = gameOfLife.getChangedRegion();
+        if (region == null) {
+            return 0;
+        }
+
+        int height = gameOfLife.getHeight();
+        gameOfLife.readRegion(region.x(), region.y(), region.width(), region.height(), regionCells);
+        int count = 0;
+
+        for (int i = 0; i < region.width(); i++) {
+            for (int j = 0; j < region.height(); j++) {
+                int index = (region.x() + i) * height + region.y() + j;
+                boolean alive = regionCells[i * region.height() + j];
+                if (alive != previousCells[index]) {
+                    previousCells[index] = alive;
+                    changedCells[count++] = index;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Copie l'état de la grille dans un tableau indexé par {@code x * height + y}.
+     */
+    private boolean[] snapshot() {
+        int width = gameOfLife.getWidth();
+        int height = gameOfLife.getHeight();
+        boolean[] cells = new boolean[width * height];
+        gameOfLife.readRegion(0, 0, width, height, cells);
+        return cells;
+    }
+
+    /**
+     * Image clé de la génération courante, encodée au plus une fois et seulement si un
+     * client en a besoin.
+     */
+    private class KeyframeCache implements Supplier<byte[]> {
+        private byte[] encoded;
+
+        @Override
+        public byte[] get() {
+            if (encoded == null) {
+                encoded = DeltaProtocol.encodeKeyframe(generation, gameOfLife.getWidth(),
+                        gameOfLife.getHeight(), previousCells);
+            }
+            return encoded;
+        }
+    }
+
+    /**
+     * Connexion d'un client, avec sa file de messages et son fil d'écriture dédié.
+     */
+    static class ClientConnection {
+        private final Socket socket;
+        final BlockingQueue<byte[]> queue;
+        private volatile boolean closed = false;
+        private boolean keyframeOnly = false;
+        private boolean missedGeneration = false;
+        private Thread writer;
+
+        ClientConnection(Socket socket, int queueCapacity) {
+            this.socket = socket;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        void start() {
+            writer = new Thread(this::writeMessages, "simulation-server-client-" + socket.getPort());
+            writer.setDaemon(true);
+            writer.start();
+        }
+
+        /**
+         * Envoie le delta de la génération, ou une image clé tant que le client est en retard.
+         * Un client en retard ne reçoit une nouvelle image clé qu'une fois la précédente lue ;
+         * s'il l'a lue sans qu'aucune génération n'ait été sautée entre-temps, il a rattrapé
+         * son retard et les deltas reprennent à partir de cette image clé.
+         */
+        void send(byte[] delta, Supplier<byte[]> keyframe) {
+            if (keyframeOnly) {
+                if (!queue.isEmpty()) {
+                    // Image clé précédente pas encore lue : sauter cette génération
+                    missedGeneration = true;
+                } else if (missedGeneration) {
+                    // Des générations ont été sautées : renvoyer l'état courant
+                    missedGeneration = false;
+                    queue.offer(keyframe.get());
+                } else {
+                    // L'image clé de la génération précédente a été lue à temps
+                    keyframeOnly = false;
+                    queue.offer(delta);
+                }
+            } else if (!queue.offer(delta)) {
+                // File pleine : abandonner les deltas en attente et passer aux images clés
+                keyframeOnly = true;
+                missedGeneration = false;
+                queue.clear();
+                queue.offer(keyframe.get());
+            }
+        }
+
+        void sendKeyframe(byte[] keyframe) {
+            queue.offer(keyframe);
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        private void writeMessages() {
+            try (OutputStream out = new BufferedOutputStream(socket.getOutputStream())) {
+                while (!closed) {
+                    byte[] message = queue.take();
+                    out.write(message);
+                    // Regrouper les messages déjà en attente avant de vider le tampon
+                    byte[] next;
+                    while ((next = queue.poll()) != null) {
+                        out.write(next);
+                    }
+                    out.flush();
+                }
+            } catch (IOException e) {
+                // Client déconnecté
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+
+        void close() {
+            closed = true;
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Connexion déjà fermée
+            }
+            // Réveiller le fil d'écriture s'il attend un message qui n'arrivera plus
+            if (writer != null && writer != Thread.currentThread()) {
+                writer.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Lance un serveur de simulation sans interface graphique.
+     * Options : {@code --server=port}, {@code --width=n}, {@code --height=n},
+     * {@code --speed=générations par seconde}, {@code --density=0.0 à 1.0}.
+     *
+     * @param args Arguments de la ligne de commande
+     * @throws IOException              si le port ne peut pas être ouvert
+     * @throws IllegalArgumentException si les dimensions de la grille sont invalides
+     */
+    public static void main(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        int width = 200;
+        int height = 200;
+        double speed = 10;
+        double density = 0.3;
+
+        for (String arg : args) {
+            String value = arg.contains("=") ? arg.substring(arg.indexOf('=') + 1) : "";
+            if (arg.startsWith("--server=")) {
+                port = Integer.parseInt(value);
+            } else if (arg.startsWith("--width=")) {
+                width = Integer.parseInt(value);
+            } else if (arg.startsWith("--height=")) {
+                height = Integer.parseInt(value);
+            } else if (arg.startsWith("--speed=")) {
+                speed = Double.parseDouble(value);
+            } else if (arg.startsWith("--density=")) {
+                density = Double.parseDouble(value);
+            }
+        }
+
+        LifeEngine.checkDimensions(width, height);
+        LifeEngine gameOfLife = new AdaptiveLifeEngine(width, height);
+        gameOfLife.randomize(density);
+
+        SimulationServer server = new SimulationServer(gameOfLife, port, speed);
+        server.start();
+        System.out.println("Serveur de simulation démarré sur le port " + server.getPort()
+                + " (grille " + width + "x" + height + ")");
+
+        // Les fils du serveur sont des démons : garder le processus en vie
+        try {
+            Thread.currentThread().join();
+        } catch (InterruptedException e) {
+            server.stop();
+        }
+    }
+}
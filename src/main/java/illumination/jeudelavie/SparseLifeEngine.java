@@ -0,0 +1,315 @@
+package illumination.jeudelavie;
+
+import java.util.Arrays;
+
+/**
+ * Moteur du Jeu de la Vie pour les grilles creuses.
+ * Seules les cellules vivantes sont stockées, sous forme de coordonnées empaquetées dans un
+ * {@code long} ({@code x} sur les 32 bits de poids fort, {@code y} sur les 32 bits de poids
+ * faible). Une génération ne parcourt que les cellules vivantes et leurs voisines : le coût
+ * dépend de la population et non de la taille de la grille.
+ */
+public class SparseLifeEngine implements LifeEngine {
+    private LongHashSet cells;
+    private LongHashSet nextCells;
+    private final LongIntHashMap neighborCounts;
+    private int width;
+    private int height;
+    private CellRegion changedRegion;
+
+    // Limites de la zone modifiée pendant le calcul d'une génération
+    private int minX;
+    private int minY;
+    private int maxX;
+    private int maxY;
+
+    /**
+     * Constructeur utilisé par ServiceLoader : grille minimale, à redimensionner avec {@link #resize(int, int)}.
+     */
+    public SparseLifeEngine() {
+        this(1, 1);
+    }
+
+    /**
+     * Constructeur qui initialise une grille vide avec les dimensions spécifiées.
+     *
+     * @param width  Largeur de la grille
+     * @param height Hauteur de la grille
+     */
+    public SparseLifeEngine(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.cells = new LongHashSet(256);
+        this.nextCells = new LongHashSet(256);
+        this.neighborCounts = new LongIntHashMap(2048);
+    }
+
+    /**
+     * Empaquette les coordonnées d'une cellule.
+     */
+    static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Obtient la coordonnée X d'une cellule empaquetée.
+     */
+    static int unpackX(long key) {
+        return (int) (key >>> 32);
+    }
+
+    /**
+     * Obtient la coordonnée Y d'une cellule empaquetée.
+     */
+    static int unpackY(long key) {
+        return (int) key;
+    }
+
+    @Override
+    public String getName() {
+        return "Creux";
+    }
+
+    /**
+     * Efface la grille (toutes les cellules mortes).
+     */
+    @Override
+    public void clear() {
+        cells.clear();
+    }
+
+    /**
+     * Remplit la grille avec des cellules aléatoires.
+     *
+     * @param density Densité des cellules vivantes (0.0 à 1.0)
+     */
+    @Override
+    public void randomize(double density) {
+        cells.clear();
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                if (Math.random() < density) {
+                    cells.add(pack(x, y));
+                }
+            }
+        }
+    }
+
+    /**
+     * Fait évoluer la grille d'une génération selon les règles du Jeu de la Vie.
+     * Chaque cellule vivante ajoute 1 au compteur de ses 8 voisines ; seules les cellules ayant
+     * au moins une voisine vivante peuvent donc être vivantes à la génération suivante.
+     */
+    @Override
+    public void nextGeneration() {
+        minX = width;
+        minY = height;
+        maxX = -1;
+        maxY = -1;
+
+        // Compter les voisins vivants autour de chaque cellule vivante
+        neighborCounts.clear();
+        cells.forEach(this::countNeighbors);
+
+        // Appliquer les règles du Jeu de la Vie aux cellules ayant des voisins
+        nextCells.clear();
+        neighborCounts.forEach((key, neighbors) -> {
+            boolean alive = cells.contains(key);
+            if (neighbors == 3 || (alive && neighbors == 2)) {
+                nextCells.add(key);
+                if (!alive) {
+                    markChanged(key); // Naissance
+                }
+            }
+        });
+
+        // Les cellules vivantes absentes de la génération suivante sont mortes
+        cells.forEach(key -> {
+            if (!nextCells.contains(key)) {
+                markChanged(key);
+            }
+        });
+
+        // Mettre à jour la grille, en réutilisant l'ancien ensemble pour la génération suivante
+        LongHashSet previous = cells;
+        cells = nextCells;
+        nextCells = previous;
+        changedRegion = CellRegion.fromBounds(minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Incrémente le compteur de voisins des 8 cellules autour d'une cellule vivante.
+     *
+     * @param key Cellule vivante empaquetée
+     */
+    private void countNeighbors(long key) {
+        int x = unpackX(key);
+        int y = unpackY(key);
+
+        // Gestion des bords (toroïdal)
+        int left = x == 0 ? width - 1 : x - 1;
+        int right = x == width - 1 ? 0 : x + 1;
+        int up = y == 0 ? height - 1 : y - 1;
+        int down = y == height - 1 ? 0 : y + 1;
+
+        neighborCounts.increment(pack(left, up));
+        neighborCounts.increment(pack(x, up));
+        neighborCounts.increment(pack(right, up));
+        neighborCounts.increment(pack(left, y));
+        neighborCounts.increment(pack(right, y));
+        neighborCounts.increment(pack(left, down));
+        neighborCounts.increment(pack(x, down));
+        neighborCounts.increment(pack(right, down));
+    }
+
+    /**
+     * Étend la zone modifiée de la génération en cours à une cellule.
+     */
+    private void markChanged(long key) {
+        int x = unpackX(key);
+        int y = unpackY(key);
+        minX = Math.min(minX, x);
+        minY = Math.min(minY, y);
+        maxX = Math.max(maxX, x);
+        maxY = Math.max(maxY, y);
+    }
+
+    /**
+     * Bascule l'état d'une cellule (vivante à morte ou morte à vivante).
+     *
+     * @param x Coordonnée X de la cellule
+     * @param y Coordonnée Y de la cellule
+     */
+    @Override
+    public void toggleCell(int x, int y) {
+        if (x >= 0 && x < width && y >= 0 && y < height) {
+            long key = pack(x, y);
+            if (!cells.remove(key)) {
+                cells.add(key);
+            }
+        }
+    }
+
+    /**
+     * Définit l'état d'une cellule.
+     *
+     * @param x     Coordonnée X de la cellule
+     * @param y     Coordonnée Y de la cellule
+     * @param alive true pour vivante, false pour morte
+     */
+    @Override
+    public void setCell(int x, int y, boolean alive) {
+        if (x >= 0 && x < width && y >= 0 && y < height) {
+            if (alive) {
+                cells.add(pack(x, y));
+            } else {
+                cells.remove(pack(x, y));
+            }
+        }
+    }
+
+    /**
+     * Vérifie si une cellule est vivante.
+     *
+     * @param x Coordonnée X de la cellule
+     * @param y Coordonnée Y de la cellule
+     * @return true si la cellule est vivante, false sinon
+     */
+    @Override
+    public boolean isAlive(int x, int y) {
+        if (x >= 0 && x < width && y >= 0 && y < height) {
+            return cells.contains(pack(x, y));
+        }
+        return false;
+    }
+
+    /**
+     * Copie l'état d'une zone rectangulaire de la grille. Lorsque la zone compte plus de cases
+     * que la grille de cellules vivantes, seules les cellules vivantes sont parcourues.
+     */
+    @Override
+    public void readRegion(int x, int y, int regionWidth, int regionHeight, boolean[] destination) {
+        if ((long) regionWidth * regionHeight <= cells.size()) {
+            LifeEngine.super.readRegion(x, y, regionWidth, regionHeight, destination);
+            return;
+        }
+
+        Arrays.fill(destination, 0, regionWidth * regionHeight, false);
+        cells.forEach(key -> {
+            int i = unpackX(key) - x;
+            int j = unpackY(key) - y;
+            if (i >= 0 && i < regionWidth && j >= 0 && j < regionHeight) {
+                destination[i * regionHeight + j] = true;
+            }
+        });
+    }
+
+    /**
+     * Obtient les cellules vivantes, empaquetées (voir {@link #unpackX(long)} et {@link #unpackY(long)}).
+     *
+     * @return Cellules vivantes, dans un ordre quelconque
+     */
+    long[] getLiveCells() {
+        return cells.toArray();
+    }
+
+    /**
+     * Obtient la largeur de la grille.
+     *
+     * @return Largeur de la grille
+     */
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Obtient la hauteur de la grille.
+     *
+     * @return Hauteur de la grille
+     */
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Redimensionne la grille tout en préservant les cellules existantes.
+     *
+     * @param newWidth  Nouvelle largeur
+     * @param newHeight Nouvelle hauteur
+     * @throws IllegalArgumentException si les dimensions sont négatives ou trop grandes
+     */
+    @Override
+    public void resize(int newWidth, int newHeight) {
+        LifeEngine.checkDimensions(newWidth, newHeight);
+
+        // Éviter le redimensionnement inutile
+        if (newWidth == width && newHeight == height) {
+            return;
+        }
+
+        // Retirer les cellules qui sortent de la nouvelle grille
+        if (newWidth < width || newHeight < height) {
+            for (long key : cells.toArray()) {
+                if (unpackX(key) >= newWidth || unpackY(key) >= newHeight) {
+                    cells.remove(key);
+                }
+            }
+        }
+
+        this.width = newWidth;
+        this.height = newHeight;
+        this.changedRegion = null;
+    }
+
+    @Override
+    public long getPopulation() {
+        return cells.size();
+    }
+
+    @Override
+    public CellRegion getChangedRegion() {
+        return changedRegion;
+    }
+}
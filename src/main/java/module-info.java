@@ -6,4 +6,12 @@ module illumination.jeudelavie {
 
     opens illumination.jeudelavie to javafx.fxml;
     exports illumination.jeudelavie;
+
+    uses illumination.jeudelavie.LifeEngine;
+    // Le premier moteur déclaré est celui utilisé par défaut
+    provides illumination.jeudelavie.LifeEngine with
+            illumination.jeudelavie.AdaptiveLifeEngine,
+            illumination.jeudelavie.GameOfLife,
+            illumination.jeudelavie.BlockTransitionEngine,
+            illumination.jeudelavie.SparseLifeEngine;
 }
\ No newline at end of file
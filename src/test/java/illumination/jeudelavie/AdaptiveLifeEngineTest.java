@@ -0,0 +1,109 @@
+package illumination.jeudelavie;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests du changement automatique de représentation : les résultats eux-mêmes sont vérifiés
+ * par {@code LifeEngineFuzzTest}, ces tests vérifient seulement le choix du moteur.
+ */
+class AdaptiveLifeEngineTest {
+
+    @Test
+    void gliderOnLargeGridGoesSparse() {
+        AdaptiveLifeEngine engine = new AdaptiveLifeEngine(200, 200);
+        engine.randomize(0.3);
+        assertFalse(engine.isSparse(), "Une grille remplie à 30 % doit être dense");
+
+        engine.clear();
+        engine.setCell(1, 0, true);
+        engine.setCell(2, 1, true);
+        engine.setCell(0, 2, true);
+        engine.setCell(1, 2, true);
+        engine.setCell(2, 2, true);
+        engine.nextGeneration();
+
+        assertTrue(engine.isSparse(), "Un planeur seul sur une grande grille doit être creux");
+        assertEquals(5, engine.getPopulation());
+    }
+
+    @Test
+    void randomGridGoesDense() {
+        AdaptiveLifeEngine engine = new AdaptiveLifeEngine(200, 200);
+        assertTrue(engine.isSparse(), "Une grille vide doit être creuse");
+
+        Random random = new Random(1);
+        for (int x = 0; x < 200; x++) {
+            for (int y = 0; y < 200; y++) {
+                engine.setCell(x, y, random.nextDouble() < 0.3);
+            }
+        }
+        engine.nextGeneration();
+
+        assertFalse(engine.isSparse(), "Une grille remplie à 30 % doit être dense");
+    }
+
+    @Test
+    void bulkWriteChoosesRepresentationWithoutStepping() {
+        AdaptiveLifeEngine engine = new AdaptiveLifeEngine(200, 200);
+        boolean[] cells = new boolean[200 * 200];
+        Random random = new Random(2);
+
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = random.nextDouble() < 0.3;
+        }
+        engine.writeRegion(0, 0, 200, 200, cells);
+        assertFalse(engine.isSparse(), "Une image clé dense doit être chargée en représentation dense");
+
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = random.nextDouble() < 0.005;
+        }
+        engine.writeRegion(0, 0, 200, 200, cells);
+        assertTrue(engine.isSparse(), "Une image clé creuse doit être chargée en représentation creuse");
+    }
+
+    @Test
+    void densityBetweenThresholdsKeepsRepresentation() {
+        // Partir d'une grille creuse
+        AdaptiveLifeEngine sparse = new AdaptiveLifeEngine(100, 100);
+        placeBlocks(sparse);
+        stepAndCheck(sparse, true);
+
+        // Partir d'une grille dense
+        AdaptiveLifeEngine dense = new AdaptiveLifeEngine(100, 100);
+        dense.randomize(0.3);
+        dense.clear();
+        assertFalse(dense.isSparse());
+        placeBlocks(dense);
+        stepAndCheck(dense, false);
+    }
+
+    /**
+     * Place 50 blocs 2x2 (motifs stables) sur une grille 100x100 : densité constante de 2 %,
+     * entre les deux seuils.
+     */
+    private static void placeBlocks(LifeEngine engine) {
+        for (int x = 0; x < 100; x += 10) {
+            for (int y = 0; y < 50; y += 10) {
+                engine.setCell(x, y, true);
+                engine.setCell(x + 1, y, true);
+                engine.setCell(x, y + 1, true);
+                engine.setCell(x + 1, y + 1, true);
+            }
+        }
+        assertEquals(200, engine.getPopulation());
+    }
+
+    private static void stepAndCheck(AdaptiveLifeEngine engine, boolean expectedSparse) {
+        for (int generation = 1; generation <= 10; generation++) {
+            engine.nextGeneration();
+            assertEquals(expectedSparse, engine.isSparse(), "Changement de représentation à 2 % de densité");
+            assertEquals(200, engine.getPopulation());
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package illumination.jeudelavie;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Test différentiel des moteurs de calcul.
+ * Des motifs aléatoires sont simulés en parallèle par l'implémentation de référence
+ * ({@link GameOfLife}) et par chaque moteur déclaré comme service, une ou plusieurs générations
+ * à la fois ; la grille, une zone aléatoire éventuellement hors grille, la population et la zone
+ * modifiée doivent être identiques après chaque pas. Des cellules sont aussi modifiées et la
+ * grille redimensionnée ou remplie par zones en cours de route pour couvrir ces chemins.
+ * <p>
+ * La graine est fixe par défaut ; elle peut être changée pour reproduire un échec ou explorer
+ * d'autres motifs : {@code mvn test -Dtest=LifeEngineFuzzTest -Dfuzz.seed=1234}
+ * (ainsi que {@code -Dfuzz.rounds} et {@code -Dfuzz.generations}).
+ */
+class LifeEngineFuzzTest {
+    /** Taille maximale des grilles générées (petites grilles pour bien tester les bords). */
+    private static final int MAX_SIZE = 64;
+
+    /** Nombre maximal de générations calculées par un seul appel à {@link LifeEngine#nextGenerations(int)}. */
+    private static final int MAX_STEP = 16;
+
+    private final long seed = Long.getLong("fuzz.seed", 42L);
+    private final int rounds = Integer.getInteger("fuzz.rounds", 30);
+    private final int generations = Integer.getInteger("fuzz.generations", 1000);
+    private final Random random = new Random(seed);
+
+    /**
+     * Sans moteur découvert en plus de la référence, le test différentiel ne comparerait rien :
+     * les moteurs livrés doivent tous être déclarés comme services, le moteur par défaut en premier.
+     */
+    @Test
+    void discoversAllBundledEngines() {
+        List<LifeEngine> engines = LifeEngine.loadAll(8, 8);
+        assertEquals(AdaptiveLifeEngine.class, engines.get(0).getClass(),
+                "Le moteur par défaut doit être déclaré en premier");
+
+        Set<Class<?>> discovered = engines.stream()
+                .map(Object::getClass)
+                .collect(Collectors.toSet());
+
+        for (Class<?> expected : List.of(GameOfLife.class, BlockTransitionEngine.class,
+                SparseLifeEngine.class, AdaptiveLifeEngine.class)) {
+            assertTrue(discovered.contains(expected), expected.getSimpleName() + " n'est pas déclaré comme service");
+        }
+    }
+
+    @Test
+    void allEnginesShareTheSizeLimit() {
+        for (LifeEngine engine : LifeEngine.loadAll(8, 8)) {
+            engine.setCell(3, 4, true);
+            engine.resize(LifeEngine.MAX_DIMENSION, LifeEngine.MAX_DIMENSION);
+            assertThrows(IllegalArgumentException.class, () -> engine.resize(LifeEngine.MAX_DIMENSION + 1, 8),
+                    engine.getName());
+            assertThrows(IllegalArgumentException.class, () -> engine.resize(8, 0), engine.getName());
+
+            // Un redimensionnement refusé laisse la grille intacte
+            assertEquals(LifeEngine.MAX_DIMENSION, engine.getWidth(), engine.getName());
+            assertTrue(engine.isAlive(3, 4), engine.getName());
+            assertEquals(1, engine.getPopulation(), engine.getName());
+        }
+    }
+
+    @Test
+    void allEnginesMatchReference() {
+        for (int round = 0; round < rounds; round++) {
+            int width = 1 + random.nextInt(MAX_SIZE);
+            int height = 1 + random.nextInt(MAX_SIZE);
+            double density = random.nextDouble() * 0.6;
+
+            GameOfLife reference = new GameOfLife(width, height);
+            List<LifeEngine> engines = LifeEngine.loadAll(width, height);
+            engines.removeIf(engine -> engine.getClass() == GameOfLife.class);
+            assertFalse(engines.isEmpty(), "Aucun moteur à comparer à la référence");
+
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < height; y++) {
+                    if (random.nextDouble() < density) {
+                        reference.setCell(x, y, true);
+                        for (LifeEngine engine : engines) {
+                            engine.setCell(x, y, true);
+                        }
+                    }
+                }
+            }
+
+            int generation = 0;
+            while (generation < generations) {
+                mutate(reference, engines);
+
+                // Avancer le plus souvent d'une génération, parfois de plusieurs d'un coup
+                int step = random.nextInt(10) == 0 ? 2 + random.nextInt(MAX_STEP - 1) : 1;
+                step = Math.min(step, generations - generation);
+                generation += step;
+
+                reference.nextGenerations(step);
+                for (LifeEngine engine : engines) {
+                    engine.nextGenerations(step);
+                    compare(reference, engine, round, generation);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applique de temps en temps la même modification aléatoire à tous les moteurs :
+     * quelques cellules basculées, un motif réinjecté ou un redimensionnement.
+     */
+    private void mutate(GameOfLife reference, List<LifeEngine> engines) {
+        int choice = random.nextInt(100);
+
+        if (choice < 5) {
+            // Basculer quelques cellules
+            int count = 1 + random.nextInt(8);
+            for (int i = 0; i < count; i++) {
+                int x = random.nextInt(reference.getWidth());
+                int y = random.nextInt(reference.getHeight());
+                reference.toggleCell(x, y);
+                for (LifeEngine engine : engines) {
+                    engine.toggleCell(x, y);
+                }
+            }
+        } else if (choice < 6) {
+            // Redimensionner la grille
+            int width = 1 + random.nextInt(MAX_SIZE);
+            int height = 1 + random.nextInt(MAX_SIZE);
+            reference.resize(width, height);
+            for (LifeEngine engine : engines) {
+                engine.resize(width, height);
+            }
+        } else if (choice < 7 && reference.getPopulation() == 0) {
+            // Relancer une grille éteinte, avec une densité creuse, intermédiaire ou dense
+            double density = new double[] {0.005, 0.02, 0.3}[random.nextInt(3)];
+            writeRandomRegion(reference, engines, 0, 0, reference.getWidth(), reference.getHeight(), density);
+        } else if (choice < 8) {
+            // Remplacer une zone aléatoire, qui peut déborder de la grille
+            int width = random.nextInt(reference.getWidth() + 1);
+            int height = random.nextInt(reference.getHeight() + 1);
+            int x = random.nextInt(reference.getWidth() + width) - width / 2;
+            int y = random.nextInt(reference.getHeight() + height) - height / 2;
+            writeRandomRegion(reference, engines, x, y, width, height, random.nextDouble() * 0.5);
+        }
+    }
+
+    /**
+     * Écrit la même zone aléatoire dans tous les moteurs avec {@link LifeEngine#writeRegion}.
+     */
+    private void writeRandomRegion(GameOfLife reference, List<LifeEngine> engines,
+                                   int x, int y, int width, int height, double density) {
+        boolean[] cells = new boolean[width * height];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = random.nextDouble() < density;
+        }
+        reference.writeRegion(x, y, width, height, cells);
+        for (LifeEngine engine : engines) {
+            engine.writeRegion(x, y, width, height, cells);
+        }
+    }
+
+    /**
+     * Compare la lecture d'une zone aléatoire, qui peut déborder de la grille de chaque côté
+     * ou se trouver entièrement en dehors : les cellules hors de la grille doivent être mortes,
+     * et rien ne doit être écrit au-delà des {@code width * height} premières cases.
+     */
+    private void compareRandomRegion(GameOfLife reference, LifeEngine engine, String context) {
+        int gridWidth = reference.getWidth();
+        int gridHeight = reference.getHeight();
+        int x = random.nextInt(2 * gridWidth + 1) - gridWidth;
+        int y = random.nextInt(2 * gridHeight + 1) - gridHeight;
+        int width = random.nextInt(gridWidth + 1);
+        int height = random.nextInt(gridHeight + 1);
+        String region = " [zone " + width + "x" + height + " en (" + x + ", " + y + ")] ";
+
+        boolean[] expected = new boolean[width * height + 1];
+        boolean[] actual = new boolean[width * height + 1];
+        expected[width * height] = true;
+        actual[width * height] = true;
+        reference.readRegion(x, y, width, height, expected);
+        engine.readRegion(x, y, width, height, actual);
+
+        assertTrue(actual[width * height], "readRegion a écrit au-delà de la zone" + region + context);
+        for (int i = 0; i < width; i++) {
+            for (int j = 0; j < height; j++) {
+                boolean inside = x + i >= 0 && x + i < gridWidth && y + j >= 0 && y + j < gridHeight;
+                if (!inside && actual[i * height + j]) {
+                    fail("Cellule hors grille (" + (x + i) + ", " + (y + j) + ") vivante" + region + context);
+                }
+                if (expected[i * height + j] != actual[i * height + j]) {
+                    fail("Cellule (" + (x + i) + ", " + (y + j) + ") différente" + region + context);
+                }
+            }
+        }
+    }
+
+    /**
+     * Compare un moteur à la référence.
+     */
+    private void compare(GameOfLife reference, LifeEngine engine, int round, int generation) {
+        String context = engine.getName() + " (graine " + seed + ", partie " + round + ", génération "
+                + generation + ", grille " + reference.getWidth() + "x" + reference.getHeight() + ")";
+
+        assertEquals(reference.getWidth(), engine.getWidth(), "Largeur différente : " + context);
+        assertEquals(reference.getHeight(), engine.getHeight(), "Hauteur différente : " + context);
+
+        int width = reference.getWidth();
+        int height = reference.getHeight();
+        boolean[] expected = new boolean[width * height];
+        boolean[] actual = new boolean[width * height];
+        reference.readRegion(0, 0, width, height, expected);
+        engine.readRegion(0, 0, width, height, actual);
+
+        for (int i = 0; i < expected.length; i++) {
+            if (expected[i] != actual[i]) {
+                fail("Cellule (" + i / height + ", " + i % height + ") différente : " + context);
+            }
+            if (actual[i] != engine.isAlive(i / height, i % height)) {
+                fail("readRegion et isAlive incohérents : " + context);
+            }
+        }
+
+        compareRandomRegion(reference, engine, context);
+
+        assertEquals(reference.getPopulation(), engine.getPopulation(), "Population différente : " + context);
+        assertEquals(reference.getChangedRegion(), engine.getChangedRegion(), "Zone modifiée différente : " + context);
+    }
+}
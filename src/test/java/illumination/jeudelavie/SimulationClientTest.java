@@ -0,0 +1,107 @@
+package illumination.jeudelavie;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests du client de simulation sur localhost, avec un écouteur plus lent que le serveur
+ * comme peut l'être l'affichage JavaFX.
+ */
+class SimulationClientTest {
+    private SimulationServer server;
+    private SimulationClient client;
+    private final ExecutorService listenerThread = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void stop() {
+        if (client != null) {
+            client.disconnect();
+        }
+        if (server != null) {
+            server.stop();
+        }
+        listenerThread.shutdownNow();
+    }
+
+    @Test
+    void slowListenerIsMovedToKeyframes() throws Exception {
+        // Grande grille active : chaque delta est assez gros pour remplir rapidement la connexion
+        int width = 1000;
+        int height = 1000;
+        boolean[] initial = new boolean[width * height];
+        Random random = new Random(4);
+        BlockTransitionEngine engine = new BlockTransitionEngine(width, height);
+        for (int i = 0; i < initial.length; i++) {
+            initial[i] = random.nextDouble() < 0.3;
+            engine.setCell(i / height, i % height, initial[i]);
+        }
+
+        // Serveur aussi rapide que possible, avec une file de deux messages par client
+        server = new SimulationServer(engine, 0, 1000, 2);
+        server.start();
+
+        GameOfLife mirror = new GameOfLife();
+        AtomicInteger keyframes = new AtomicInteger();
+        AtomicReference<Long> lastGeneration = new AtomicReference<>();
+        AtomicReference<String> error = new AtomicReference<>();
+
+        client = new SimulationClient("localhost", server.getPort(), listenerThread, frame -> {
+            if (frame.isKeyframe()) {
+                keyframes.incrementAndGet();
+            } else if (lastGeneration.get() == null || frame.getGeneration() != lastGeneration.get() + 1) {
+                error.compareAndSet(null, "Delta de la génération " + frame.getGeneration()
+                        + " reçu après la génération " + lastGeneration.get());
+            }
+            frame.applyTo(mirror);
+            lastGeneration.set(frame.getGeneration());
+
+            // Écouteur plus lent que le serveur
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        client.setOnConnectFailed(e -> error.compareAndSet(null, "Connexion impossible : " + e.getMessage()));
+        client.connect();
+
+        // Une image clé à la connexion, puis au moins une autre une fois le client en retard
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (keyframes.get() < 2 && error.get() == null) {
+            if (System.nanoTime() > deadline) {
+                fail("Le client lent n'est jamais passé aux images clés (" + keyframes.get() + " image(s) clé(s))");
+            }
+            Thread.sleep(10);
+        }
+        client.disconnect();
+        listenerThread.shutdown();
+        listenerThread.awaitTermination(5, TimeUnit.SECONDS);
+        assertNull(error.get());
+
+        // La grille du client correspond bien à la génération reçue
+        BlockTransitionEngine reference = new BlockTransitionEngine(width, height);
+        for (int i = 0; i < initial.length; i++) {
+            reference.setCell(i / height, i % height, initial[i]);
+        }
+        reference.nextGenerations((int) (long) lastGeneration.get());
+        boolean[] expected = new boolean[width * height];
+        boolean[] actual = new boolean[width * height];
+        reference.readRegion(0, 0, width, height, expected);
+        mirror.readRegion(0, 0, width, height, actual);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual[i], "Cellule (" + i / height + ", " + i % height
+                    + ") différente à la génération " + lastGeneration.get());
+        }
+    }
+}
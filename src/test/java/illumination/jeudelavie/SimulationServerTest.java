@@ -0,0 +1,188 @@
+package illumination.jeudelavie;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests du serveur de simulation sur localhost : les clients lisent le flux directement avec
+ * {@link DeltaProtocol#readFrame(DataInputStream)} et comparent leur grille à une référence
+ * calculée localement à partir du même état initial.
+ */
+class SimulationServerTest {
+    private SimulationServer server;
+
+    @AfterEach
+    void stopServer() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    void mirrorsServerGridGenerationByGeneration() throws IOException {
+        GameOfLife reference = randomGrid(200, 150, 1);
+        server = new SimulationServer(copyOf(reference), 0, 1000);
+        server.start();
+
+        try (Socket socket = connect()) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            GameOfLife mirror = new GameOfLife();
+            long referenceGeneration = 0;
+
+            SimulationFrame first = DeltaProtocol.readFrame(in);
+            assertTrue(first.isKeyframe(), "Le premier message doit être une image clé");
+            first.applyTo(mirror);
+            referenceGeneration = stepTo(reference, referenceGeneration, first.getGeneration());
+            assertSameGrid(reference, mirror, first.getGeneration());
+
+            long generation = first.getGeneration();
+            while (generation < first.getGeneration() + 500) {
+                SimulationFrame frame = DeltaProtocol.readFrame(in);
+                assertEquals(generation + 1, frame.getGeneration(), "Génération sautée");
+                generation = frame.getGeneration();
+
+                frame.applyTo(mirror);
+                referenceGeneration = stepTo(reference, referenceGeneration, generation);
+                assertSameGrid(reference, mirror, generation);
+            }
+        }
+    }
+
+    /**
+     * La bascule est testée directement sur la file d'un client, sans fil d'écriture : le test
+     * joue le rôle du fil d'écriture en retirant lui-même les messages de la file.
+     */
+    @Test
+    void laggingClientSwitchesToKeyframesThenBackToDeltas() throws IOException {
+        try (Socket socket = new Socket()) {
+            SimulationServer.ClientConnection client = new SimulationServer.ClientConnection(socket, 4);
+
+            // Les deltas s'accumulent tant que la file n'est pas pleine
+            for (int generation = 1; generation <= 4; generation++) {
+                client.send(message(DeltaProtocol.DELTA, generation), keyframe(generation));
+            }
+            assertEquals(4, client.queue.size());
+
+            // File pleine : les deltas en attente sont remplacés par une image clé
+            client.send(message(DeltaProtocol.DELTA, 5), keyframe(5));
+            assertQueue(client, DeltaProtocol.KEYFRAME, 5);
+
+            // Image clé pas encore lue : la génération est sautée
+            client.send(message(DeltaProtocol.DELTA, 6), keyframe(6));
+            assertQueue(client, DeltaProtocol.KEYFRAME, 5);
+            client.queue.poll();
+
+            // Une génération a été sautée depuis l'image clé lue : nouvelle image clé
+            client.send(message(DeltaProtocol.DELTA, 7), keyframe(7));
+            assertQueue(client, DeltaProtocol.KEYFRAME, 7);
+            client.queue.poll();
+
+            // Image clé lue à temps : les deltas reprennent à la génération suivante
+            client.send(message(DeltaProtocol.DELTA, 8), keyframe(8));
+            client.send(message(DeltaProtocol.DELTA, 9), keyframe(9));
+            assertEquals(2, client.queue.size());
+            assertArrayEquals(message(DeltaProtocol.DELTA, 8), client.queue.poll());
+            assertArrayEquals(message(DeltaProtocol.DELTA, 9), client.queue.poll());
+        }
+    }
+
+    private static byte[] message(byte type, int generation) {
+        return new byte[] {type, (byte) generation};
+    }
+
+    private static Supplier<byte[]> keyframe(int generation) {
+        return () -> message(DeltaProtocol.KEYFRAME, generation);
+    }
+
+    private static void assertQueue(SimulationServer.ClientConnection client, byte type, int generation) {
+        assertEquals(1, client.queue.size(), "Une seule image clé doit être en attente");
+        assertArrayEquals(message(type, generation), client.queue.peek());
+    }
+
+    @Test
+    void stopEndsClientWriterThreads() throws Exception {
+        server = new SimulationServer(randomGrid(50, 50, 3), 0, 100);
+        server.start();
+
+        try (Socket first = connect(); Socket second = connect()) {
+            // Attendre que les deux clients aient reçu leur image clé
+            DeltaProtocol.readFrame(new DataInputStream(first.getInputStream()));
+            DeltaProtocol.readFrame(new DataInputStream(second.getInputStream()));
+            assertTrue(countWriterThreads() >= 2, "Les fils d'écriture des clients devraient être démarrés");
+
+            server.stop();
+
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (countWriterThreads() > 0) {
+                if (System.nanoTime() > deadline) {
+                    fail(countWriterThreads() + " fil(s) d'écriture encore actif(s) après stop()");
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    private static long countWriterThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.isAlive() && thread.getName().startsWith("simulation-server-client-"))
+                .count();
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = new Socket();
+        socket.setSoTimeout(10_000);
+        socket.connect(new InetSocketAddress("localhost", server.getPort()), 5000);
+        return socket;
+    }
+
+    private static GameOfLife randomGrid(int width, int height, long seed) {
+        Random random = new Random(seed);
+        GameOfLife grid = new GameOfLife(width, height);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                grid.setCell(x, y, random.nextDouble() < 0.3);
+            }
+        }
+        return grid;
+    }
+
+    private static GameOfLife copyOf(GameOfLife source) {
+        GameOfLife copy = new GameOfLife(source.getWidth(), source.getHeight());
+        for (int x = 0; x < source.getWidth(); x++) {
+            for (int y = 0; y < source.getHeight(); y++) {
+                copy.setCell(x, y, source.isAlive(x, y));
+            }
+        }
+        return copy;
+    }
+
+    private static long stepTo(GameOfLife reference, long from, long to) {
+        reference.nextGenerations((int) (to - from));
+        return to;
+    }
+
+    private static void assertSameGrid(GameOfLife expected, GameOfLife actual, long generation) {
+        assertEquals(expected.getWidth(), actual.getWidth(), "Largeur différente");
+        assertEquals(expected.getHeight(), actual.getHeight(), "Hauteur différente");
+        for (int x = 0; x < expected.getWidth(); x++) {
+            for (int y = 0; y < expected.getHeight(); y++) {
+                if (expected.isAlive(x, y) != actual.isAlive(x, y)) {
+                    fail("Cellule (" + x + ", " + y + ") différente à la génération " + generation);
+                }
+            }
+        }
+    }
+}